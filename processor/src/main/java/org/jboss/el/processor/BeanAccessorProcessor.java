@@ -0,0 +1,460 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.el.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates an {@code org.jboss.el.cache.BeanAccessor} for every class annotated with
+ * {@link ELBean}, and for the classes listed in the {@value #BEANS_OPTION} option, and registers
+ * them in {@code META-INF/services/org.jboss.el.cache.BeanAccessor}.
+ * <p>
+ * Properties are found with the same JavaBeans naming rules as {@code BeanPropertiesCache} applies
+ * at runtime, so expressions behave the same with or without the generated accessors.
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions(BeanAccessorProcessor.BEANS_OPTION)
+public class BeanAccessorProcessor extends AbstractProcessor {
+
+    /**
+     * Comma separated names of additional bean classes, for classes which cannot be annotated.
+     */
+    public static final String BEANS_OPTION = "org.jboss.el.processor.beans";
+
+    static final String SERVICE = "org.jboss.el.cache.BeanAccessor";
+    static final String SUFFIX = "$$ELAccessor";
+
+    private static final String GET_PREFIX = "get";
+    private static final String IS_PREFIX = "is";
+    private static final String SET_PREFIX = "set";
+
+    private final Set<String> accessors = new TreeSet<String>();
+    private boolean configuredBeansDone;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        Set<TypeElement> beans = new LinkedHashSet<TypeElement>();
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(ELBean.class.getName());
+        if (annotation != null) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                beans.add((TypeElement) element);
+            }
+        }
+        if (!configuredBeansDone) {
+            configuredBeansDone = true;
+            String option = processingEnv.getOptions().get(BEANS_OPTION);
+            if (option != null) {
+                for (String name : option.split(",")) {
+                    name = name.trim();
+                    if (name.isEmpty()) {
+                        continue;
+                    }
+                    TypeElement type = processingEnv.getElementUtils().getTypeElement(name);
+                    if (type == null) {
+                        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                "Bean class " + name + " listed in " + BEANS_OPTION + " not found");
+                    } else {
+                        beans.add(type);
+                    }
+                }
+            }
+        }
+        for (TypeElement bean : beans) {
+            if (isAccessible(bean)) {
+                generate(bean);
+            } else {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Bean classes used with @ELBean must be public classes", bean);
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAccessible(TypeElement bean) {
+        if (bean.getKind() != ElementKind.CLASS && !bean.getKind().name().equals("RECORD")) {
+            return false;
+        }
+        // BeanELResolver only reads the properties of public classes
+        for (Element e = bean; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (!e.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement bean) {
+        String qualifiedName = rawName(bean);
+        if (!accessors.add(accessorName(bean))) {
+            return;
+        }
+        Map<String, Property> properties = findProperties(bean);
+        String packageName = packageOf(bean).getQualifiedName().toString();
+        String simpleName = accessorSimpleName(bean);
+        List<Property> list = new ArrayList<Property>(properties.values());
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(accessorName(bean), bean);
+            try (Writer out = file.openWriter()) {
+                if (!packageName.isEmpty()) {
+                    out.write("package " + packageName + ";\n\n");
+                }
+                out.write("/**\n * Bean accessor for {@link " + qualifiedName + "}, generated by "
+                        + getClass().getName() + ". Do not edit.\n */\n");
+                out.write("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+                out.write("public final class " + simpleName + " implements " + SERVICE + " {\n\n");
+                out.write("    private static final String[] NAMES = {");
+                for (int i = 0; i < list.size(); i++) {
+                    out.write((i == 0 ? " " : ", ") + "\"" + list.get(i).name + "\"");
+                }
+                out.write(" };\n");
+                out.write("    private static final Class<?>[] TYPES = {");
+                for (int i = 0; i < list.size(); i++) {
+                    out.write((i == 0 ? " " : ", ") + list.get(i).typeName + ".class");
+                }
+                out.write(" };\n\n");
+
+                out.write("    @Override\n    public Class<?> getBeanClass() {\n");
+                out.write("        return " + rawName(bean) + ".class;\n    }\n\n");
+                out.write("    @Override\n    public String[] getPropertyNames() {\n");
+                out.write("        return NAMES.clone();\n    }\n\n");
+                out.write("    @Override\n    public Class<?>[] getPropertyTypes() {\n");
+                out.write("        return TYPES.clone();\n    }\n\n");
+
+                out.write("    @Override\n    public boolean isReadable(int property) {\n");
+                writeFlags(out, list, true);
+                out.write("    @Override\n    public boolean isWritable(int property) {\n");
+                writeFlags(out, list, false);
+
+                out.write("    @Override\n    public Object getValue(Object bean, int property) throws Throwable {\n");
+                out.write("        " + rawName(bean) + " b = (" + rawName(bean) + ") bean;\n");
+                out.write("        switch (property) {\n");
+                for (int i = 0; i < list.size(); i++) {
+                    Property p = list.get(i);
+                    if (p.read != null) {
+                        out.write("            case " + i + ":\n");
+                        out.write("                return b." + p.read.getSimpleName() + "();\n");
+                    }
+                }
+                out.write("            default:\n");
+                out.write("                throw new IllegalArgumentException(String.valueOf(property));\n");
+                out.write("        }\n    }\n\n");
+
+                writeTypedGetter(out, bean, list, "boolean", "Boolean");
+                writeTypedGetter(out, bean, list, "int", "Int");
+                writeTypedGetter(out, bean, list, "long", "Long");
+                writeTypedGetter(out, bean, list, "double", "Double");
+
+                out.write("    @Override\n    public void setValue(Object bean, int property, Object value) throws Throwable {\n");
+                out.write("        " + rawName(bean) + " b = (" + rawName(bean) + ") bean;\n");
+                out.write("        switch (property) {\n");
+                for (int i = 0; i < list.size(); i++) {
+                    Property p = list.get(i);
+                    if (p.write != null) {
+                        out.write("            case " + i + ":\n");
+                        out.write("                b." + p.write.getSimpleName() + "((" + p.boxedTypeName + ") value);\n");
+                        out.write("                return;\n");
+                    }
+                }
+                out.write("            default:\n");
+                out.write("                throw new IllegalArgumentException(String.valueOf(property));\n");
+                out.write("        }\n    }\n}\n");
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Could not generate the bean accessor: " + e, bean);
+        }
+    }
+
+    /*
+     * Overrides one of the primitive getters of BeanAccessor for the readable properties of that
+     * exact type, so that their values are never boxed. Nothing is written if there are none.
+     */
+    private void writeTypedGetter(Writer out, TypeElement bean, List<Property> list, String type, String name)
+            throws IOException {
+        StringBuilder cases = new StringBuilder();
+        for (int i = 0; i < list.size(); i++) {
+            Property p = list.get(i);
+            if (p.read != null && p.typeName.equals(type)) {
+                cases.append("            case ").append(i).append(":\n");
+                cases.append("                return b.").append(p.read.getSimpleName()).append("();\n");
+            }
+        }
+        if (cases.length() == 0) {
+            return;
+        }
+        out.write("    @Override\n    public " + type + " get" + name + "(Object bean, int property) throws Throwable {\n");
+        out.write("        " + rawName(bean) + " b = (" + rawName(bean) + ") bean;\n");
+        out.write("        switch (property) {\n");
+        out.write(cases.toString());
+        out.write("            default:\n");
+        out.write("                return " + SERVICE + ".super.get" + name + "(bean, property);\n");
+        out.write("        }\n    }\n\n");
+    }
+
+    private static void writeFlags(Writer out, List<Property> list, boolean read) throws IOException {
+        StringBuilder cases = new StringBuilder();
+        for (int i = 0; i < list.size(); i++) {
+            Property p = list.get(i);
+            if ((read ? p.read : p.write) != null) {
+                cases.append("            case ").append(i).append(":\n");
+            }
+        }
+        if (cases.length() == 0) {
+            out.write("        return false;\n    }\n\n");
+            return;
+        }
+        out.write("        switch (property) {\n");
+        out.write(cases.toString());
+        out.write("                return true;\n");
+        out.write("            default:\n");
+        out.write("                return false;\n");
+        out.write("        }\n    }\n\n");
+    }
+
+    private void writeServiceFile() {
+        if (accessors.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    "META-INF/services/" + SERVICE);
+            try (Writer out = file.openWriter()) {
+                for (String accessor : accessors) {
+                    out.write(accessor);
+                    out.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Could not register the bean accessors: " + e);
+        }
+    }
+
+    private Map<String, Property> findProperties(TypeElement bean) {
+        Map<String, List<ExecutableElement>> methods = new LinkedHashMap<String, List<ExecutableElement>>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(bean))) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC)) {
+                continue;
+            }
+            String name = method.getSimpleName().toString();
+            List<ExecutableElement> list = methods.get(name);
+            if (list == null) {
+                list = new ArrayList<ExecutableElement>(1);
+                methods.put(name, list);
+            }
+            list.add(method);
+        }
+        Map<String, Property> properties = new TreeMap<String, Property>();
+        for (String name : methods.keySet()) {
+            String suffix;
+            if (name.startsWith(GET_PREFIX) || name.startsWith(SET_PREFIX)) {
+                suffix = name.substring(3);
+            } else if (name.startsWith(IS_PREFIX)) {
+                suffix = name.substring(2);
+            } else {
+                continue;
+            }
+            String property = decapitalize(suffix);
+            if (property.isEmpty() || properties.containsKey(property)) {
+                continue;
+            }
+            Property p = findProperty(methods, property);
+            if (p != null) {
+                properties.put(property, p);
+            }
+        }
+        // record components are read through their accessors, and win over bean properties
+        for (Element element : bean.getEnclosedElements()) {
+            if (element.getKind().name().equals("RECORD_COMPONENT")) {
+                String name = element.getSimpleName().toString();
+                ExecutableElement accessor = find(methods, name);
+                if (accessor != null) {
+                    properties.put(name, new Property(name, accessor, null, accessor.getReturnType()));
+                }
+            }
+        }
+        return properties;
+    }
+
+    /*
+     * Same rules as org.jboss.el.cache.BeanIntrospection.
+     */
+    private Property findProperty(Map<String, List<ExecutableElement>> methods, String property) {
+        String capitalized = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        Property p = null;
+        if (decapitalize(capitalized).equals(property)) {
+            p = findProperty(methods, property, capitalized);
+        }
+        if (p == null && !capitalized.equals(property) && decapitalize(property).equals(property)) {
+            p = findProperty(methods, property, property);
+        }
+        return p;
+    }
+
+    private Property findProperty(Map<String, List<ExecutableElement>> methods, String property, String suffix) {
+        ExecutableElement read = find(methods, IS_PREFIX + suffix);
+        if (read == null || read.getReturnType().getKind() != TypeKind.BOOLEAN) {
+            read = find(methods, GET_PREFIX + suffix);
+            if (read != null && read.getReturnType().getKind() == TypeKind.VOID) {
+                read = null;
+            }
+        }
+        ExecutableElement write = null;
+        List<ExecutableElement> setters = methods.get(SET_PREFIX + suffix);
+        if (setters != null) {
+            for (ExecutableElement method : setters) {
+                if (method.getParameters().size() != 1 || method.getReturnType().getKind() != TypeKind.VOID) {
+                    continue;
+                }
+                TypeMirror parameter = erasure(method.getParameters().get(0).asType());
+                if (read == null || processingEnv.getTypeUtils().isSameType(parameter, erasure(read.getReturnType()))) {
+                    write = method;
+                    break;
+                }
+            }
+        }
+        if (read == null && write == null) {
+            return null;
+        }
+        TypeMirror type = read != null ? read.getReturnType() : write.getParameters().get(0).asType();
+        return new Property(property, read, write, type);
+    }
+
+    /*
+     * The public instance method with no parameters of the given name, with the most specific
+     * return type if several are inherited.
+     */
+    private ExecutableElement find(Map<String, List<ExecutableElement>> methods, String name) {
+        List<ExecutableElement> candidates = methods.get(name);
+        if (candidates == null) {
+            return null;
+        }
+        ExecutableElement found = null;
+        for (ExecutableElement method : candidates) {
+            if (method.getParameters().isEmpty() && (found == null
+                    || processingEnv.getTypeUtils().isAssignable(erasure(method.getReturnType()), erasure(found.getReturnType())))) {
+                found = method;
+            }
+        }
+        return found;
+    }
+
+    private TypeMirror erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type);
+    }
+
+    /*
+     * Same as java.beans.Introspector.decapitalize, which is not available to processors running
+     * without the java.desktop module.
+     */
+    static String decapitalize(String name) {
+        if (name.isEmpty()) {
+            return name;
+        }
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        char[] chars = name.toCharArray();
+        chars[0] = Character.toLowerCase(chars[0]);
+        return new String(chars);
+    }
+
+    private PackageElement packageOf(TypeElement type) {
+        return processingEnv.getElementUtils().getPackageOf(type);
+    }
+
+    private String accessorSimpleName(TypeElement bean) {
+        String packageName = packageOf(bean).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(bean).toString();
+        String simpleName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        return simpleName + SUFFIX;
+    }
+
+    private String accessorName(TypeElement bean) {
+        String packageName = packageOf(bean).getQualifiedName().toString();
+        return packageName.isEmpty() ? accessorSimpleName(bean) : packageName + "." + accessorSimpleName(bean);
+    }
+
+    private String rawName(TypeElement bean) {
+        return bean.getQualifiedName().toString();
+    }
+
+    private final class Property {
+        final String name;
+        final ExecutableElement read;
+        final ExecutableElement write;
+        final String typeName;
+        final String boxedTypeName;
+
+        Property(String name, ExecutableElement read, ExecutableElement write, TypeMirror type) {
+            this.name = name;
+            this.read = read;
+            this.write = write;
+            TypeMirror erased = erasure(type);
+            this.typeName = erased.toString();
+            this.boxedTypeName = erased.getKind().isPrimitive()
+                    ? processingEnv.getTypeUtils().boxedClass((PrimitiveType) erased).getQualifiedName().toString()
+                    : typeName;
+        }
+    }
+}
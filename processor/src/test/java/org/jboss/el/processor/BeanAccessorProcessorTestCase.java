@@ -0,0 +1,134 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.el.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.jboss.el.cache.BeanAccessor;
+import org.jboss.el.cache.BeanPropertiesCache;
+import org.jboss.el.cache.BeanPropertiesCache.BeanProperties;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BeanAccessorProcessorTestCase {
+
+    private static final String PERSON = "package test;\n"
+            + "@org.jboss.el.processor.ELBean\n"
+            + "public class Person {\n"
+            + "    private String name;\n"
+            + "    private int age;\n"
+            + "    public String getName() { return name; }\n"
+            + "    public void setName(String name) { this.name = name; }\n"
+            + "    public int getAge() { return age; }\n"
+            + "    public void setAge(int age) { this.age = age; }\n"
+            + "    public boolean isAdult() { return age >= 18; }\n"
+            + "    public String getURL() { return \"url\"; }\n"
+            + "    public void setNickname(String nickname) { }\n"
+            + "    public static String getStatic() { return null; }\n"
+            + "}\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testGeneratedAccessor() throws Throwable {
+        File output = compile("test/Person.java", PERSON);
+        Assert.assertEquals("test.Person$$ELAccessor",
+                new String(Files.readAllBytes(new File(output, "META-INF/services/" + BeanAccessorProcessor.SERVICE).toPath()),
+                        StandardCharsets.UTF_8).trim());
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { output.toURI().toURL() }, getClass().getClassLoader())) {
+            Class<?> person = loader.loadClass("test.Person");
+            BeanAccessor accessor = (BeanAccessor) loader.loadClass("test.Person$$ELAccessor").newInstance();
+            Assert.assertSame(person, accessor.getBeanClass());
+            Assert.assertEquals(Arrays.asList("URL", "adult", "age", "class", "name", "nickname"),
+                    Arrays.asList(accessor.getPropertyNames()));
+            Assert.assertEquals(Arrays.<Class<?>>asList(String.class, boolean.class, int.class, Class.class, String.class, String.class),
+                    Arrays.asList(accessor.getPropertyTypes()));
+            Assert.assertFalse(accessor.isReadable(5));
+            Assert.assertTrue(accessor.isWritable(5));
+            Assert.assertFalse(accessor.isWritable(1));
+
+            // picked up at runtime through the service file
+            Object bean = person.newInstance();
+            BeanProperties properties = BeanPropertiesCache.getBeanProperties(person);
+            properties.getBeanProperty("age").write(bean, 42);
+            properties.getBeanProperty("name").write(bean, "Duke");
+            Assert.assertEquals(42, properties.getBeanProperty("age").read(bean));
+            Assert.assertEquals("Duke", properties.getBeanProperty("name").read(bean));
+            Assert.assertEquals(Boolean.TRUE, properties.getBeanProperty("adult").read(bean));
+            Assert.assertEquals(42, accessor.getInt(bean, 2));
+            Assert.assertTrue(accessor.getBoolean(bean, 1));
+            Assert.assertEquals(42, properties.getBeanProperty("age").readInt(bean));
+            Assert.assertTrue(properties.getBeanProperty("adult").isReadOnly());
+            Assert.assertEquals("getName", properties.getBeanProperty("name").getReadMethod().getName());
+            Assert.assertNull(properties.getBeanProperty("static"));
+        }
+    }
+
+    @Test
+    public void testNonPublicBean() throws IOException {
+        Assert.assertFalse(call("test/Hidden.java", "package test;\n"
+                + "@org.jboss.el.processor.ELBean\n"
+                + "class Hidden {\n"
+                + "    public String getName() { return null; }\n"
+                + "}\n"));
+    }
+
+    private File compile(String path, String source) throws IOException {
+        Assert.assertTrue(call(path, source));
+        return new File(folder.getRoot(), "classes");
+    }
+
+    private boolean call(String path, String source) throws IOException {
+        File sources = folder.newFolder("src");
+        File output = folder.newFolder("classes");
+        File file = new File(sources, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjects(file);
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                    Arrays.asList("-d", output.getPath(), "-classpath", System.getProperty("java.class.path")),
+                    null, units);
+            task.setProcessors(Collections.singletonList(new BeanAccessorProcessor()));
+            return task.call();
+        }
+    }
+}
@@ -145,11 +145,7 @@ public class ArrayELResolver extends ELResolver {
 
         if (base != null && base.getClass().isArray()) {
             context.setPropertyResolved(true);
-            int index = toInteger (property);
-            if (index < 0 || index >= Array.getLength(base)) {
-                throw new PropertyNotFoundException();
-            }
-            return base.getClass().getComponentType();
+            return getType(base, toInteger(property));
         }
         return null;
     }
@@ -194,10 +190,7 @@ public class ArrayELResolver extends ELResolver {
 
         if (base != null && base.getClass().isArray()) {
             context.setPropertyResolved(base, property);
-            int index = toInteger (property);
-            if (index >= 0 && index < Array.getLength(base)) {
-                return Array.get(base, index);
-            }
+            return getValue(base, toInteger(property));
         }
         return null;
     }
@@ -251,20 +244,8 @@ public class ArrayELResolver extends ELResolver {
 
         if (base != null && base.getClass().isArray()) {
             context.setPropertyResolved(base, property);
-            if (isReadOnly) {
-                throw new PropertyNotWritableException();
-            }
-            Class<?> type = base.getClass().getComponentType();
-            if (val != null && !Util.isAssignableFrom(val.getClass(), type)) {
-                throw new ClassCastException(Util.message(context,
-                        "objectNotAssignable", val.getClass().getName(),
-                        type.getName()));
-            }
-            int index = toInteger (property);
-            if (index < 0 || index >= Array.getLength(base)) {
-                throw new PropertyNotFoundException();
-            }
-            Array.set(base, index, val);
+            checkWritable(context, base, val);
+            setValue(base, toInteger(property), val);
         }
     }
 
@@ -311,10 +292,7 @@ public class ArrayELResolver extends ELResolver {
 
         if (base != null && base.getClass().isArray()) {
             context.setPropertyResolved(true);
-            int index = toInteger (property);
-            if (index < 0 || index >= Array.getLength(base)) {
-                throw new PropertyNotFoundException();
-            }
+            checkIndex(base, toInteger(property));
         }
         return isReadOnly;
     }
@@ -361,8 +339,146 @@ public class ArrayELResolver extends ELResolver {
         return null;
     }
 
+    /**
+     * If the base type is a Java language array type, returns an accessor for
+     * the given index of arrays of that type.
+     *
+     * <p>The property is coerced to an integer once, when the accessor is
+     * created. If that fails, <code>null</code> is returned, so that the
+     * caller goes through {@link #getValue} and friends, which report the
+     * invalid index.</p>
+     *
+     * @param context The context of this evaluation.
+     * @param baseType The class of the arrays.
+     * @param property The index of the element.
+     * @return An accessor for the element, or <code>null</code> if the
+     *     property is not a valid index.
+     */
+    @Override
+    public PropertyAccessor getAccessor(ELContext context,
+                                        Class<?> baseType,
+                                        Object property) {
+
+        if (baseType == null || !baseType.isArray()) {
+            return PropertyAccessor.UNRESOLVED;
+        }
+        int index;
+        try {
+            index = toInteger(property);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+        return new ArrayAccessor(property, index);
+    }
+
+    /**
+     * Returns whether the base type is an array.
+     *
+     * @param baseType The class of the arrays.
+     * @return Whether this resolver handles base objects of the type.
+     */
+    @Override
+    public boolean handlesBaseType(Class<?> baseType) {
+        return baseType != null && baseType.isArray();
+    }
+
+    private Class<?> getType(Object array, int index) {
+        checkIndex(array, index);
+        return array.getClass().getComponentType();
+    }
+
+    private Object getValue(Object array, int index) {
+        if (index >= 0 && index < Array.getLength(array)) {
+            return Array.get(array, index);
+        }
+        return null;
+    }
+
+    private void checkWritable(ELContext context, Object array, Object val) {
+        if (isReadOnly) {
+            throw new PropertyNotWritableException();
+        }
+        Class<?> type = array.getClass().getComponentType();
+        if (val != null && !Util.isAssignableFrom(val.getClass(), type)) {
+            throw new ClassCastException(Util.message(context,
+                    "objectNotAssignable", val.getClass().getName(),
+                    type.getName()));
+        }
+    }
+
+    private void setValue(Object array, int index, Object val) {
+        checkIndex(array, index);
+        Array.set(array, index, val);
+    }
+
+    private void checkIndex(Object array, int index) {
+        if (index < 0 || index >= Array.getLength(array)) {
+            throw new PropertyNotFoundException();
+        }
+    }
+
+    private final class ArrayAccessor extends PropertyAccessor {
+
+        private final Object property;
+        private final int index;
+
+        ArrayAccessor(Object property, int index) {
+            this.property = property;
+            this.index = index;
+        }
+
+        @Override
+        public Class<?> getType(ELContext context, Object base) {
+            if (context == null) {
+                throw new NullPointerException();
+            }
+            if (base != null && base.getClass().isArray()) {
+                context.setPropertyResolved(true);
+                return ArrayELResolver.this.getType(base, index);
+            }
+            return null;
+        }
+
+        @Override
+        public Object getValue(ELContext context, Object base) {
+            if (context == null) {
+                throw new NullPointerException();
+            }
+            if (base != null && base.getClass().isArray()) {
+                context.setPropertyResolved(base, property);
+                return ArrayELResolver.this.getValue(base, index);
+            }
+            return null;
+        }
+
+        @Override
+        public void setValue(ELContext context, Object base, Object value) {
+            if (context == null) {
+                throw new NullPointerException();
+            }
+            if (base != null && base.getClass().isArray()) {
+                context.setPropertyResolved(base, property);
+                checkWritable(context, base, value);
+                ArrayELResolver.this.setValue(base, index, value);
+            }
+        }
+
+        @Override
+        public boolean isReadOnly(ELContext context, Object base) {
+            if (context == null) {
+                throw new NullPointerException();
+            }
+            if (base != null && base.getClass().isArray()) {
+                context.setPropertyResolved(true);
+                checkIndex(base, index);
+            }
+            return isReadOnly;
+        }
+    }
+
     private int toInteger(Object p) {
 
+        p = ELPropertyKey.unwrap(p);
         if (p instanceof Integer) {
             return ((Integer) p).intValue();
         }
@@ -64,11 +64,7 @@ import org.jboss.el.cache.BeanPropertiesCache;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.beans.FeatureDescriptor;
-import java.beans.BeanInfo;
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
 import java.util.Iterator;
-import java.util.ArrayList;
 
 import static org.jboss.el.cache.BeanPropertiesCache.BeanProperties;
 import static org.jboss.el.cache.BeanPropertiesCache.BeanProperty;
@@ -227,8 +223,15 @@ public class BeanELResolver extends ELResolver {
         }
 
         BeanProperty bp = getBeanProperty(context, base, property);
-        Method method = bp.getReadMethod();
-        if (method == null) {
+        return getValue(context, base, property, bp);
+    }
+
+    private Object getValue(ELContext context,
+                            Object base,
+                            Object property,
+                            BeanProperty bp) {
+
+        if (!bp.isReadable()) {
             throw new PropertyNotFoundException(
                         ELUtil.getExceptionMessageString(context,
                             "propertyNotReadable",
@@ -238,7 +241,7 @@ public class BeanELResolver extends ELResolver {
 
         Object value;
         try {
-            value = method.invoke(base, new Object[0]);
+            value = bp.read(base);
             context.setPropertyResolved(base, property);
         } catch (ELException ex) {
             throw ex;
@@ -307,8 +310,16 @@ public class BeanELResolver extends ELResolver {
         } 
 
         BeanProperty bp = getBeanProperty(context, base, property);
-        Method method = bp.getWriteMethod();
-        if (method == null) {
+        setValue(context, base, property, bp, val);
+    }
+
+    private void setValue(ELContext context,
+                          Object base,
+                          Object property,
+                          BeanProperty bp,
+                          Object val) {
+
+        if (bp.isReadOnly()) {
             throw new PropertyNotWritableException(
                         ELUtil.getExceptionMessageString(context,
                             "propertyNotWritable",
@@ -317,7 +328,7 @@ public class BeanELResolver extends ELResolver {
         }
 
         try {
-            method.invoke(base, new Object[] {val});
+            bp.write(base, val);
             context.setPropertyResolved(base, property);
         } catch (ELException ex) {
             throw ex;
@@ -509,22 +520,13 @@ public class BeanELResolver extends ELResolver {
             return null;
         }
 
-        BeanInfo info = null;
+        BeanProperties bps;
         try {
-            info = Introspector.getBeanInfo(base.getClass());
+            bps = BeanPropertiesCache.getBeanProperties(base.getClass());
         } catch (Exception ex) {
-        }
-        if (info == null) {
             return null;
         }
-        ArrayList<FeatureDescriptor> list = new ArrayList<FeatureDescriptor>(
-                info.getPropertyDescriptors().length);
-        for (PropertyDescriptor pd: info.getPropertyDescriptors()) {
-            pd.setValue("type", pd.getPropertyType());
-            pd.setValue("resolvableAtDesignTime", Boolean.TRUE);
-            list.add(pd);
-        }
-        return list.iterator();
+        return bps.getFeatureDescriptors().iterator();
     }
 
     /**
@@ -551,26 +553,462 @@ public class BeanELResolver extends ELResolver {
     }
 
 
+    /**
+     * If the base object is not <code>null</code>, returns the current value
+     * of the given property on this bean, coerced to <code>boolean</code>.
+     *
+     * <p>Behaves like {@link #getValue} followed by a coercion, but reads
+     * <code>boolean</code> properties without boxing their value.</p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The bean on which to get the property.
+     * @param property The name of the property to get. Will be coerced to
+     *     a <code>String</code>.
+     * @return If the <code>propertyResolved</code> property of
+     *     <code>ELContext</code> was set to <code>true</code>, then
+     *     the coerced value of the given property. Otherwise, undefined.
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws PropertyNotFoundException if <code>base</code> is not
+     *     <code>null</code> and the specified property does not exist
+     *     or is not readable.
+     * @throws ELException if an exception was thrown while performing
+     *     the property or variable resolution, or if the value cannot be
+     *     coerced to <code>boolean</code>.
+     */
+    @Override
+    public boolean getBooleanValue(ELContext context,
+                                   Object base,
+                                   Object property) {
+
+        if (context == null) {
+            throw new NullPointerException();
+        }
+
+        if (base == null || property == null) {
+            return false;
+        }
+
+        BeanProperty bp = getBeanProperty(context, base, property);
+        Class<?> type = bp.getPropertyType();
+        if (bp.isReadable()) {
+            try {
+                if (type == boolean.class) {
+                    boolean value = bp.readBoolean(base);
+                    context.setPropertyResolved(base, property);
+                    return value;
+                }
+            } catch (Exception ex) {
+                throw readFailed(ex);
+            }
+        }
+        return (Boolean) context.convertToType(
+                getValue(context, base, property, bp), boolean.class);
+    }
+
+    /**
+     * If the base object is not <code>null</code>, returns the current value
+     * of the given property on this bean, coerced to <code>int</code>.
+     *
+     * <p>Behaves like {@link #getValue} followed by a coercion, but reads
+     * <code>int</code> properties without boxing their value.</p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The bean on which to get the property.
+     * @param property The name of the property to get. Will be coerced to
+     *     a <code>String</code>.
+     * @return If the <code>propertyResolved</code> property of
+     *     <code>ELContext</code> was set to <code>true</code>, then
+     *     the coerced value of the given property. Otherwise, undefined.
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws PropertyNotFoundException if <code>base</code> is not
+     *     <code>null</code> and the specified property does not exist
+     *     or is not readable.
+     * @throws ELException if an exception was thrown while performing
+     *     the property or variable resolution, or if the value cannot be
+     *     coerced to <code>int</code>.
+     */
+    @Override
+    public int getIntValue(ELContext context,
+                           Object base,
+                           Object property) {
+
+        if (context == null) {
+            throw new NullPointerException();
+        }
+
+        if (base == null || property == null) {
+            return 0;
+        }
+
+        BeanProperty bp = getBeanProperty(context, base, property);
+        Class<?> type = bp.getPropertyType();
+        if (bp.isReadable()) {
+            try {
+                if (type == int.class) {
+                    int value = bp.readInt(base);
+                    context.setPropertyResolved(base, property);
+                    return value;
+                }
+            } catch (Exception ex) {
+                throw readFailed(ex);
+            }
+        }
+        return (Integer) context.convertToType(
+                getValue(context, base, property, bp), int.class);
+    }
+
+    /**
+     * If the base object is not <code>null</code>, returns the current value
+     * of the given property on this bean, coerced to <code>long</code>.
+     *
+     * <p>Behaves like {@link #getValue} followed by a coercion, but reads
+     * <code>long</code> and <code>int</code> properties without boxing their value.</p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The bean on which to get the property.
+     * @param property The name of the property to get. Will be coerced to
+     *     a <code>String</code>.
+     * @return If the <code>propertyResolved</code> property of
+     *     <code>ELContext</code> was set to <code>true</code>, then
+     *     the coerced value of the given property. Otherwise, undefined.
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws PropertyNotFoundException if <code>base</code> is not
+     *     <code>null</code> and the specified property does not exist
+     *     or is not readable.
+     * @throws ELException if an exception was thrown while performing
+     *     the property or variable resolution, or if the value cannot be
+     *     coerced to <code>long</code>.
+     */
+    @Override
+    public long getLongValue(ELContext context,
+                             Object base,
+                             Object property) {
+
+        if (context == null) {
+            throw new NullPointerException();
+        }
+
+        if (base == null || property == null) {
+            return 0;
+        }
+
+        BeanProperty bp = getBeanProperty(context, base, property);
+        Class<?> type = bp.getPropertyType();
+        if (bp.isReadable()) {
+            try {
+                if (type == long.class || type == int.class) {
+                    long value = type == long.class
+                            ? bp.readLong(base) : bp.readInt(base);
+                    context.setPropertyResolved(base, property);
+                    return value;
+                }
+            } catch (Exception ex) {
+                throw readFailed(ex);
+            }
+        }
+        return (Long) context.convertToType(
+                getValue(context, base, property, bp), long.class);
+    }
+
+    /**
+     * If the base object is not <code>null</code>, returns the current value
+     * of the given property on this bean, coerced to <code>double</code>.
+     *
+     * <p>Behaves like {@link #getValue} followed by a coercion, but reads
+     * <code>double</code>, <code>long</code> and <code>int</code> properties without boxing their value.</p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The bean on which to get the property.
+     * @param property The name of the property to get. Will be coerced to
+     *     a <code>String</code>.
+     * @return If the <code>propertyResolved</code> property of
+     *     <code>ELContext</code> was set to <code>true</code>, then
+     *     the coerced value of the given property. Otherwise, undefined.
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws PropertyNotFoundException if <code>base</code> is not
+     *     <code>null</code> and the specified property does not exist
+     *     or is not readable.
+     * @throws ELException if an exception was thrown while performing
+     *     the property or variable resolution, or if the value cannot be
+     *     coerced to <code>double</code>.
+     */
+    @Override
+    public double getDoubleValue(ELContext context,
+                                 Object base,
+                                 Object property) {
+
+        if (context == null) {
+            throw new NullPointerException();
+        }
+
+        if (base == null || property == null) {
+            return 0;
+        }
+
+        BeanProperty bp = getBeanProperty(context, base, property);
+        Class<?> type = bp.getPropertyType();
+        if (bp.isReadable()) {
+            try {
+                if (type == double.class) {
+                    double value = bp.readDouble(base);
+                    context.setPropertyResolved(base, property);
+                    return value;
+                }
+                if (type == int.class || type == long.class) {
+                    double value = type == int.class
+                            ? bp.readInt(base) : bp.readLong(base);
+                    context.setPropertyResolved(base, property);
+                    return value;
+                }
+            } catch (Exception ex) {
+                throw readFailed(ex);
+            }
+        }
+        return (Double) context.convertToType(
+                getValue(context, base, property, bp), double.class);
+    }
+
+    /**
+     * If the base object is not <code>null</code>, returns the values of the
+     * given properties of this bean.
+     *
+     * <p>The class of the bean is looked up once for the whole batch.
+     * Resolution stops at the first <code>null</code> property, which
+     * this resolver does not handle.</p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The bean on which to get the properties.
+     * @param properties The names of the properties. Will be coerced to
+     *     <code>String</code>s.
+     * @param values The array receiving the values.
+     * @return The number of properties resolved, starting from the first;
+     *     <code>0</code> if <code>base</code> is <code>null</code>.
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws PropertyNotFoundException if <code>base</code> is not
+     *     <code>null</code> and one of the properties does not exist or
+     *     is not readable.
+     * @throws ELException if an exception was thrown while performing
+     *     the property or variable resolution. The thrown exception
+     *     must be included as the cause property of this exception, if
+     *     available.
+     */
+    @Override
+    public int getValues(ELContext context,
+                         Object base,
+                         Object[] properties,
+                         Object[] values) {
+
+        if (context == null) {
+            throw new NullPointerException();
+        }
+
+        if (base == null) {
+            return 0;
+        }
+
+        Class<?> baseClass = base.getClass();
+        BeanProperties bps = BeanPropertiesCache.getBeanProperties(baseClass);
+        for (int i = 0; i < properties.length; i++) {
+            Object property = properties[i];
+            if (property == null) {
+                context.setPropertyResolved(false);
+                return i;
+            }
+            BeanProperty bp = property instanceof ELPropertyKey
+                    ? bps.getBeanProperty((ELPropertyKey) property)
+                    : bps.getBeanProperty(property.toString());
+            if (bp == null) {
+                throw new PropertyNotFoundException(
+                            ELUtil.getExceptionMessageString(context,
+                                "propertyNotFound",
+                                new Object[] { baseClass.getName(),
+                                               property.toString()}));
+            }
+            values[i] = getValue(context, base, property, bp);
+        }
+        return properties.length;
+    }
+
+    /**
+     * If the base type is not <code>null</code>, returns an accessor for
+     * the given JavaBeans property of beans of that type.
+     *
+     * <p>The property is looked up once, when the accessor is created. If
+     * the property does not exist, <code>null</code> is returned, so that the
+     * caller goes through {@link #getValue} and friends, which report the
+     * missing property.</p>
+     *
+     * @param context The context of this evaluation.
+     * @param baseType The class of the beans.
+     * @param property The name of the property. Will be coerced to
+     *     a <code>String</code>.
+     * @return An accessor for the property, or <code>null</code> if the
+     *     bean type has no such property.
+     * @throws ELException if the base type could not be introspected.
+     */
+    @Override
+    public PropertyAccessor getAccessor(ELContext context,
+                                        Class<?> baseType,
+                                        Object property) {
+
+        if (baseType == null || property == null) {
+            return PropertyAccessor.UNRESOLVED;
+        }
+
+        BeanProperty bp = findBeanProperty(baseType, property);
+        if (bp == null) {
+            return null;
+        }
+        return new BeanPropertyAccessor(property, bp);
+    }
+
+    /**
+     * Returns <code>true</code> unless the base type is <code>null</code>,
+     * since any object may be a bean.
+     *
+     * @param baseType The class of the beans.
+     * @return Whether the base type is not <code>null</code>.
+     */
+    @Override
+    public boolean handlesBaseType(Class<?> baseType) {
+        return baseType != null;
+    }
+
+    /**
+     * If the base object is not <code>null</code>, returns whether it has
+     * a JavaBeans property with the given name, readable or not.
+     *
+     * <p>Unlike the other methods of this resolver, this method never throws
+     * <code>PropertyNotFoundException</code> and does not change the
+     * <code>propertyResolved</code> property of the <code>ELContext</code>.
+     * It can be used to probe for optional properties without paying for
+     * a failed resolution. Unknown property names are remembered per class,
+     * so repeated probes do not introspect the class again.</p>
+     *
+     * <p>This method is a JBoss extension to the EL API.</p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The bean to analyze.
+     * @param property The name of the property. Will be coerced to
+     *     a <code>String</code>.
+     * @return <code>true</code> if <code>base</code> is not
+     *     <code>null</code> and has the property; <code>false</code>
+     *     otherwise.
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws ELException if the class of <code>base</code> could not be
+     *     introspected.
+     */
+    public boolean hasProperty(ELContext context,
+                               Object base,
+                               Object property) {
+
+        if (context == null) {
+            throw new NullPointerException();
+        }
+
+        if (base == null || property == null) {
+            return false;
+        }
+
+        return findBeanProperty(base.getClass(), property) != null;
+    }
+
     private BeanProperty getBeanProperty(ELContext context,
                                          Object base,
                                          Object prop) {
 
-        String property = prop.toString();
         Class baseClass = base.getClass();
-        BeanProperties bps = BeanPropertiesCache.getProperties().get(baseClass);
-        if (bps == null) {
-            bps = new BeanProperties(baseClass);
-            BeanPropertiesCache.getProperties().put(baseClass, bps);
-        }
-        BeanProperty bp = bps.getBeanProperty(property);
+        BeanProperty bp = findBeanProperty(baseClass, prop);
         if (bp == null) {
             throw new PropertyNotFoundException(
                         ELUtil.getExceptionMessageString(context,
                             "propertyNotFound",
                             new Object[] { baseClass.getName(),
-                                           property}));
+                                           prop.toString()}));
         }
         return bp;
     }
-}
 
+    private static ELException readFailed(Exception ex) {
+        if (ex instanceof ELException) {
+            return (ELException) ex;
+        }
+        if (ex instanceof InvocationTargetException) {
+            return new ELException(ex.getCause());
+        }
+        return new ELException(ex);
+    }
+
+    private static BeanProperty findBeanProperty(Class<?> baseClass,
+                                                 Object prop) {
+
+        BeanProperties bps = BeanPropertiesCache.getBeanProperties(baseClass);
+        if (prop instanceof ELPropertyKey) {
+            return bps.getBeanProperty((ELPropertyKey) prop);
+        }
+        return bps.getBeanProperty(prop.toString());
+    }
+
+    private final class BeanPropertyAccessor extends PropertyAccessor {
+
+        private final Object property;
+        private final BeanProperty bp;
+
+        BeanPropertyAccessor(Object property, BeanProperty bp) {
+            this.property = property;
+            this.bp = bp;
+        }
+
+        @Override
+        public Class<?> getType(ELContext context, Object base) {
+            if (context == null) {
+                throw new NullPointerException();
+            }
+            if (base == null) {
+                return null;
+            }
+            context.setPropertyResolved(true);
+            return bp.getPropertyType();
+        }
+
+        @Override
+        public Object getValue(ELContext context, Object base) {
+            if (context == null) {
+                throw new NullPointerException();
+            }
+            if (base == null) {
+                return null;
+            }
+            return BeanELResolver.this.getValue(context, base, property, bp);
+        }
+
+        @Override
+        public void setValue(ELContext context, Object base, Object value) {
+            if (context == null) {
+                throw new NullPointerException();
+            }
+            if (base == null) {
+                return;
+            }
+            if (isReadOnly) {
+                throw new PropertyNotWritableException(
+                            ELUtil.getExceptionMessageString(context,
+                                "resolverNotwritable",
+                                new Object[] { base.getClass().getName() }));
+            }
+            BeanELResolver.this.setValue(context, base, property, bp, value);
+        }
+
+        @Override
+        public boolean isReadOnly(ELContext context, Object base) {
+            if (context == null) {
+                throw new NullPointerException();
+            }
+            if (base == null) {
+                return false;
+            }
+            context.setPropertyResolved(true);
+            return isReadOnly || bp.isReadOnly();
+        }
+    }
+}
@@ -102,6 +102,7 @@ public class BeanNameELResolver extends ELResolver {
         if (context == null) {
             throw new NullPointerException();
         }
+        property = ELPropertyKey.unwrap(property);
         if (base == null && property instanceof String) {
             if (beanNameResolver.isNameResolved((String) property)) {
                 context.setPropertyResolved(base, property);
@@ -142,6 +143,7 @@ public class BeanNameELResolver extends ELResolver {
         if (context == null) {
             throw new NullPointerException();
         }
+        property = ELPropertyKey.unwrap(property);
 
         if (base == null && property instanceof String) {
             String beanName = (String) property;
@@ -182,6 +184,7 @@ public class BeanNameELResolver extends ELResolver {
         if (context == null) {
             throw new NullPointerException();
         }
+        property = ELPropertyKey.unwrap(property);
 
         if (base == null && property instanceof String) {
             if (beanNameResolver.isNameResolved((String) property)) {
@@ -221,6 +224,7 @@ public class BeanNameELResolver extends ELResolver {
         if (context == null) {
             throw new NullPointerException();
         }
+        property = ELPropertyKey.unwrap(property);
 
         if (base == null && property instanceof String) {
             if (beanNameResolver.isNameResolved((String) property)) {
@@ -253,4 +257,16 @@ public class BeanNameELResolver extends ELResolver {
     public Class<?> getCommonPropertyType(ELContext context, Object base) {
         return String.class;
     }
+
+    /**
+     * Returns <code>true</code> if the base type is <code>null</code>, as
+     * this resolver only resolves top-level variables.
+     *
+     * @param baseType The class of the base objects.
+     * @return Whether the base type is <code>null</code>.
+     */
+    @Override
+    public boolean handlesBaseType(Class<?> baseType) {
+        return baseType == null;
+    }
 }
@@ -0,0 +1,267 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package javax.el;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jboss.el.cache.BeanPropertiesCache;
+
+/*
+ * How to turn the arguments of an EL method call into the parameters of a
+ * resolved method or constructor, worked out once per executable: one
+ * converter per parameter, which does nothing when the argument already has
+ * the parameter type, and for varargs methods, a packer for the trailing
+ * arguments that fills a typed array directly. Plans of executables also
+ * carry a method handle to invoke them with the coerced parameters.
+ */
+final class CoercionPlan {
+
+    /*
+     * Plans of the executables declared by each class. Parameter types are
+     * always visible from the declaring class, so this does not keep other
+     * class loaders alive.
+     */
+    private static final ClassValue<ConcurrentMap<Executable, CoercionPlan>> PLANS =
+            new ClassValue<ConcurrentMap<Executable, CoercionPlan>>() {
+        @Override
+        protected ConcurrentMap<Executable, CoercionPlan> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<Executable, CoercionPlan>();
+        }
+    };
+
+    private static final MethodType INVOKER_TYPE =
+            MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final Converter[] converters;
+    private final boolean varArgs;
+    // only set for varargs executables
+    private final Class<?> varArgsType;
+    private final Converter componentConverter;
+    // (Object base, Object[] parameters)Object, null if there is none
+    private final MethodHandle invoker;
+
+    private CoercionPlan(Class<?>[] parameterTypes, boolean varArgs, MethodHandle invoker) {
+        converters = new Converter[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            converters[i] = new Converter(parameterTypes[i]);
+        }
+        this.varArgs = varArgs && parameterTypes.length > 0;
+        if (this.varArgs) {
+            varArgsType = parameterTypes[parameterTypes.length - 1];
+            componentConverter = new Converter(varArgsType.getComponentType());
+        } else {
+            varArgsType = null;
+            componentConverter = null;
+        }
+        this.invoker = invoker;
+    }
+
+    /*
+     * The plan of a method or constructor, created on first use.
+     */
+    static CoercionPlan of(Executable executable) {
+        ConcurrentMap<Executable, CoercionPlan> plans = PLANS.get(executable.getDeclaringClass());
+        CoercionPlan plan = plans.get(executable);
+        if (plan == null) {
+            plan = new CoercionPlan(executable.getParameterTypes(), executable.isVarArgs(),
+                    prepareInvoker(executable));
+            CoercionPlan existing = plans.putIfAbsent(executable, plan);
+            if (existing != null) {
+                plan = existing;
+            }
+        }
+        return plan;
+    }
+
+    /*
+     * Returns a handle that invokes the executable with a base object, ignored
+     * for constructors and static methods, and the parameters built by this
+     * plan, or null if the executable has to be invoked reflectively.
+     */
+    MethodHandle getInvoker() {
+        return invoker;
+    }
+
+    /*
+     * Public methods and constructors of public classes get a handle that
+     * spreads the parameters and boxes the result, void methods returning
+     * null. Anything that cannot be looked up publicly, such as caller
+     * sensitive methods, is left to reflection, which reports the same
+     * errors as before, and so is anything the handle cannot be adapted for.
+     */
+    private static MethodHandle prepareInvoker(Executable executable) {
+        int parameterCount = executable.getParameterTypes().length;
+        if (!(executable instanceof Method) &&
+                Modifier.isAbstract(executable.getDeclaringClass().getModifiers())) {
+            // reflection reports the InstantiationException
+            return null;
+        }
+        try {
+            MethodHandle handle;
+            if (executable instanceof Method) {
+                handle = MethodHandles.publicLookup().unreflect((Method) executable);
+            } else {
+                handle = MethodHandles.publicLookup()
+                        .unreflectConstructor((Constructor<?>) executable);
+            }
+            // varargs are packed by the plan
+            handle = handle.asFixedArity();
+            if (!(executable instanceof Method) || Modifier.isStatic(executable.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asSpreader(Object[].class, parameterCount).asType(INVOKER_TYPE);
+        } catch (IllegalAccessException e) {
+            return null;
+        } catch (RuntimeException e) {
+            // e.g. too many parameters for a spreader
+            return null;
+        }
+    }
+
+    /*
+     * Coerces the arguments to the parameter types. Arguments are converted
+     * with the given context, so that its resolvers get a chance to convert
+     * them, or with the expression factory if the context is null.
+     *
+     * For a varargs executable, the trailing arguments are packed into an
+     * array, unless there is exactly one of them and it already is an array
+     * of the right type, or null.
+     */
+    Object[] build(ELContext context, Object[] params) {
+        int parameterCount = converters.length;
+        if (parameterCount == 0) {
+            return null;
+        }
+        Object[] parameters = new Object[parameterCount];
+        int fixed = varArgs ? parameterCount - 1 : parameterCount;
+        for (int i = 0; i < fixed; i++) {
+            parameters[i] = converters[i].convert(context, params[i]);
+        }
+        if (varArgs) {
+            int paramCount = params == null ? 0 : params.length;
+            if (paramCount == parameterCount &&
+                    (params[fixed] == null || varArgsType.isInstance(params[fixed]))) {
+                parameters[fixed] = params[fixed];
+            } else {
+                parameters[fixed] = pack(context, params, fixed, paramCount - fixed);
+            }
+        }
+        return parameters;
+    }
+
+    private Object pack(ELContext context, Object[] params, int from, int length) {
+        Class<?> component = componentConverter.type;
+        Converter converter = componentConverter;
+        if (!component.isPrimitive()) {
+            Object[] array = (Object[]) Array.newInstance(component, length);
+            for (int i = 0; i < length; i++) {
+                array[i] = converter.convert(context, params[from + i]);
+            }
+            return array;
+        }
+        if (component == Integer.TYPE) {
+            int[] array = new int[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = (Integer) converter.convert(context, params[from + i]);
+            }
+            return array;
+        } else if (component == Long.TYPE) {
+            long[] array = new long[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = (Long) converter.convert(context, params[from + i]);
+            }
+            return array;
+        } else if (component == Double.TYPE) {
+            double[] array = new double[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = (Double) converter.convert(context, params[from + i]);
+            }
+            return array;
+        } else if (component == Boolean.TYPE) {
+            boolean[] array = new boolean[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = (Boolean) converter.convert(context, params[from + i]);
+            }
+            return array;
+        } else if (component == Character.TYPE) {
+            char[] array = new char[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = (Character) converter.convert(context, params[from + i]);
+            }
+            return array;
+        } else if (component == Byte.TYPE) {
+            byte[] array = new byte[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = (Byte) converter.convert(context, params[from + i]);
+            }
+            return array;
+        } else if (component == Short.TYPE) {
+            short[] array = new short[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = (Short) converter.convert(context, params[from + i]);
+            }
+            return array;
+        } else {
+            float[] array = new float[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = (Float) converter.convert(context, params[from + i]);
+            }
+            return array;
+        }
+    }
+
+    /*
+     * Coerces arguments to one parameter type.
+     */
+    private static final class Converter {
+
+        final Class<?> type;
+        // the type the argument must be an instance of to be passed as is
+        private final Class<?> instanceType;
+
+        Converter(Class<?> type) {
+            this.type = type;
+            this.instanceType = type.isPrimitive() ? BeanPropertiesCache.boxedType(type) : type;
+        }
+
+        Object convert(ELContext context, Object value) {
+            if (value != null && instanceType.isInstance(value)) {
+                return value;
+            }
+            if (context != null) {
+                return context.convertToType(value, type);
+            }
+            return Util.getExpressionFactory().coerceToType(value, type);
+        }
+    }
+}
@@ -58,8 +58,17 @@
 
 package javax.el;
 
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.beans.FeatureDescriptor;
 
 /**
@@ -84,7 +93,11 @@ import java.beans.FeatureDescriptor;
  *
  * <p>The <code>CompositeELResolver</code> initializes the
  * <code>ELContext.propertyResolved</code> flag to <code>false</code>, and uses 
- * it as a stop condition for iterating through its component resolvers.</p>
+ * it as a stop condition for iterating through its component resolvers.
+ * Component resolvers which declare, through
+ * {@link ELResolver#handlesBaseType}, that they never handle the type of
+ * the base object are skipped; since they would leave the flag alone, the
+ * result is the same as consulting every component in order.</p>
  *
  * <p>The <code>ELContext.propertyResolved</code> flag is not used for the 
  * design-time methods {@link #getFeatureDescriptors} and
@@ -98,8 +111,7 @@ import java.beans.FeatureDescriptor;
 public class CompositeELResolver extends ELResolver {
 
     public CompositeELResolver() {
-        this.size = 0;
-        this.elResolvers = new ELResolver[16];
+        this.dispatch = new Dispatch(new ELResolver[0]);
     }
 
     /**
@@ -117,13 +129,14 @@ public class CompositeELResolver extends ELResolver {
             throw new NullPointerException();
         }
 
-        if (size >= elResolvers.length) {
-            ELResolver[] newResolvers = new ELResolver[size * 2];
-            System.arraycopy(elResolvers, 0, newResolvers, 0, size);
-            elResolvers = newResolvers;
+        synchronized (this) {
+            ELResolver[] elResolvers = dispatch.elResolvers;
+            ELResolver[] newResolvers =
+                Arrays.copyOf(elResolvers, elResolvers.length + 1);
+            newResolvers[elResolvers.length] = elResolver;
+            // the dispatch tables built for the previous resolvers go with them
+            dispatch = new Dispatch(newResolvers);
         }
-
-        elResolvers[size++] = elResolver;
     }
 
     /**
@@ -183,9 +196,13 @@ public class CompositeELResolver extends ELResolver {
 
         context.setPropertyResolved(false);
 
+        if (profile != null) {
+            return profile.consult(context, resolversFor(base), custom,
+                    elResolver -> elResolver.getValue(context, base, property));
+        }
         Object value = null; 
-        for (int i = 0; i < size; i++) {
-            value = elResolvers[i].getValue(context, base, property);
+        for (ELResolver elResolver : resolversFor(base)) {
+            value = elResolver.getValue(context, base, property);
             if (context.isPropertyResolved()) {
                 return value;
             }
@@ -251,10 +268,15 @@ public class CompositeELResolver extends ELResolver {
 
         context.setPropertyResolved(false);
 
+        if (profile != null) {
+            return profile.consult(context, resolversFor(base), custom,
+                    elResolver -> elResolver.invoke(context, base, method,
+                                                    paramTypes, params));
+        }
         Object value;
-        for (int i = 0; i < size; i++) {
-            value = elResolvers[i].invoke(context, base, method,
-                                          paramTypes, params);
+        for (ELResolver elResolver : resolversFor(base)) {
+            value = elResolver.invoke(context, base, method,
+                                      paramTypes, params);
             if (context.isPropertyResolved()) {
                 return value;
             }
@@ -322,9 +344,13 @@ public class CompositeELResolver extends ELResolver {
 
         context.setPropertyResolved(false);
 
+        if (profile != null) {
+            return profile.consult(context, resolversFor(base), custom,
+                    elResolver -> elResolver.getType(context, base, property));
+        }
         Class<?> type;  
-        for (int i = 0; i < size; i++) {
-            type = elResolvers[i].getType(context, base, property);
+        for (ELResolver elResolver : resolversFor(base)) {
+            type = elResolver.getType(context, base, property);
             if (context.isPropertyResolved()) {
                 return type;
             }
@@ -389,8 +415,15 @@ public class CompositeELResolver extends ELResolver {
 
         context.setPropertyResolved(false);
 
-        for (int i = 0; i < size; i++) {
-            elResolvers[i].setValue(context, base, property, val);
+        if (profile != null) {
+            profile.consult(context, resolversFor(base), custom, elResolver -> {
+                elResolver.setValue(context, base, property, val);
+                return null;
+            });
+            return;
+        }
+        for (ELResolver elResolver : resolversFor(base)) {
+            elResolver.setValue(context, base, property, val);
             if (context.isPropertyResolved()) {
                 return;
             }
@@ -456,9 +489,14 @@ public class CompositeELResolver extends ELResolver {
 
         context.setPropertyResolved(false);
 
+        if (profile != null) {
+            Boolean readOnly = profile.consult(context, resolversFor(base), custom,
+                    elResolver -> elResolver.isReadOnly(context, base, property));
+            return readOnly != null && readOnly;
+        }
         boolean readOnly;
-        for (int i = 0; i < size; i++) {
-            readOnly = elResolvers[i].isReadOnly(context, base, property);
+        for (ELResolver elResolver : resolversFor(base)) {
+            readOnly = elResolver.isReadOnly(context, base, property);
             if (context.isPropertyResolved()) {
                 return readOnly;
             }
@@ -495,7 +533,9 @@ public class CompositeELResolver extends ELResolver {
     public Iterator<FeatureDescriptor> getFeatureDescriptors(
                                           ELContext context,
                                           Object base) {
-        return new CompositeIterator(elResolvers, size, context, base);
+        ELResolver[] elResolvers = dispatch.elResolvers;
+        return new CompositeIterator(elResolvers, elResolvers.length, context,
+                                     base);
     }
 
     /**
@@ -522,9 +562,9 @@ public class CompositeELResolver extends ELResolver {
     public Class<?> getCommonPropertyType(ELContext context,
                                                Object base) {
         Class<?> commonPropertyType = null;
-        for (int i = 0; i < size; i++) {
+        for (ELResolver elResolver : dispatch.elResolvers) {
 
-            Class<?> type = elResolvers[i].getCommonPropertyType(context, base);
+            Class<?> type = elResolver.getCommonPropertyType(context, base);
             if (type == null) {
                 // skip this EL Resolver
                 continue;
@@ -563,8 +603,9 @@ public class CompositeELResolver extends ELResolver {
         context.setPropertyResolved(false);
 
         Object value = null;
-        for (int i = 0; i < size; i++) {
-            value = elResolvers[i].convertToType(context, obj, targetType);
+        for (ELResolver converter :
+                getConverters(obj == null ? null : obj.getClass(), targetType)) {
+            value = converter.convertToType(context, obj, targetType);
             if (context.isPropertyResolved()) {
                 return value;
             }
@@ -572,8 +613,623 @@ public class CompositeELResolver extends ELResolver {
         return null;
     }
 
-    private ELResolver[] elResolvers;
-    private int size;
+    @Override
+    boolean mayConvert(Class<?> sourceType, Class<?> targetType) {
+        if (CONVERT_DECLARED_BY.get(getClass()) != CompositeELResolver.class) {
+            // a subclass does its own conversions
+            return true;
+        }
+        for (ELResolver converter : getConverters(sourceType, targetType)) {
+            // nested composites answer for themselves, they may have changed
+            if (!(converter instanceof CompositeELResolver) ||
+                    converter.mayConvert(sourceType, targetType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * The component resolvers that may convert objects of the source type to
+     * the target type, in order. Nested composites are always included, as
+     * resolvers may still be added to them.
+     */
+    private ELResolver[] getConverters(Class<?> sourceType, Class<?> targetType) {
+        Dispatch dispatch = this.dispatch;
+        ELResolver[] all = dispatch.converters;
+        if (all == null) {
+            List<ELResolver> list = new ArrayList<ELResolver>();
+            for (ELResolver elResolver : dispatch.elResolvers) {
+                if (elResolver instanceof CompositeELResolver ||
+                        CONVERT_DECLARED_BY.get(elResolver.getClass()) != ELResolver.class) {
+                    list.add(elResolver);
+                }
+            }
+            dispatch.converters = all = list.toArray(new ELResolver[list.size()]);
+        }
+        if (all.length == 0) {
+            return all;
+        }
+        Class<?> source = sourceType == null ? Void.TYPE : sourceType;
+        ConcurrentMap<Class<?>, Map<Class<?>, ELResolver[]>> convertersByType =
+                dispatch.convertersByType;
+        Map<Class<?>, ELResolver[]> bySource = convertersByType.get(targetType);
+        ELResolver[] result = bySource == null ? null : bySource.get(source);
+        if (result == null) {
+            List<ELResolver> list = new ArrayList<ELResolver>(all.length);
+            for (ELResolver converter : all) {
+                if (converter instanceof CompositeELResolver ||
+                        converter.mayConvert(sourceType, targetType)) {
+                    list.add(converter);
+                }
+            }
+            result = list.toArray(new ELResolver[list.size()]);
+            if (convertersByType.size() < MAX_CONVERSION_TYPES) {
+                if (bySource == null) {
+                    bySource = new ConcurrentHashMap<Class<?>, ELResolver[]>();
+                    Map<Class<?>, ELResolver[]> existing =
+                            convertersByType.putIfAbsent(targetType, bySource);
+                    if (existing != null) {
+                        bySource = existing;
+                    }
+                }
+                if (bySource.size() < MAX_CONVERSION_TYPES) {
+                    bySource.put(source, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a reusable accessor for the given <code>property</code> of
+     * base objects of the given type, built from the accessors of the
+     * component resolvers.
+     *
+     * <p>Component resolvers that never handle the base type are left out.
+     * The others are consulted in order, through their accessor if they
+     * provide one and directly otherwise, with the same
+     * <code>propertyResolved</code> protocol as the other methods of this
+     * composite.</p>
+     *
+     * @param context The context of this evaluation.
+     * @param baseType The class of the base objects the accessor will be
+     *     used with, or <code>null</code> for top-level variables.
+     * @param property The property the accessor will access.
+     * @return An accessor for the (base type, property) pair, or
+     *     <code>null</code> if none of the component resolvers provides one.
+     */
+    @Override
+    public PropertyAccessor getAccessor(ELContext context,
+                                        Class<?> baseType,
+                                        Object property) {
+
+        ELResolver[] candidates = resolversForType(baseType);
+        PropertyAccessor[] steps = new PropertyAccessor[candidates.length];
+        int count = 0;
+        boolean offered = false;
+        for (ELResolver elResolver : candidates) {
+            PropertyAccessor accessor =
+                elResolver.getAccessor(context, baseType, property);
+            if (accessor == PropertyAccessor.UNRESOLVED) {
+                continue;
+            }
+            if (accessor == null) {
+                accessor = new PropertyAccessor.ResolverAccessor(
+                    elResolver, property);
+            } else {
+                offered = true;
+            }
+            steps[count++] = accessor;
+        }
+        if (count == 0) {
+            return PropertyAccessor.UNRESOLVED;
+        }
+        if (!offered) {
+            return null;
+        }
+        if (count < steps.length) {
+            PropertyAccessor[] trimmed = new PropertyAccessor[count];
+            System.arraycopy(steps, 0, trimmed, 0, count);
+            steps = trimmed;
+        }
+        return new CompositeAccessor(steps);
+    }
+
+    /**
+     * Returns whether any of the component resolvers may handle base objects
+     * of the given type.
+     *
+     * @param baseType The class of the base objects, or <code>null</code>
+     *     for top-level variables.
+     * @return <code>false</code> if none of the component resolvers handles
+     *     base objects of the given type, <code>true</code> otherwise.
+     */
+    @Override
+    public boolean handlesBaseType(Class<?> baseType) {
+        for (ELResolver elResolver : dispatch.elResolvers) {
+            if (elResolver.handlesBaseType(baseType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the resolver chain profile, which is only collected if
+     * <code>org.jboss.el.resolver.profile</code> is set.
+     *
+     * <p>When it is, the {@link #getValue}, {@link #getType},
+     * {@link #setValue}, {@link #isReadOnly} and {@link #invoke} methods and
+     * the typed variants of <code>getValue</code> of every composite count,
+     * for each component resolver they consult, whether it resolved and how
+     * long it took. The profile is also registered in the platform MBean
+     * server as {@value CompositeELResolverProfileMXBean#OBJECT_NAME}.</p>
+     *
+     * <p>This method is a JBoss extension to the EL API.</p>
+     *
+     * @return The profile, or <code>null</code> if it is not enabled.
+     */
+    public static CompositeELResolverProfileMXBean getProfile() {
+        return PROFILE;
+    }
+
+    /**
+     * Attempts to resolve the given <code>property</code> object on the given
+     * <code>base</code> object by querying all component resolvers, and
+     * returns its value coerced to <code>boolean</code>.
+     *
+     * <p>The component resolvers are queried in order through their
+     * {@link ELResolver#getBooleanValue} method, with the same
+     * <code>propertyResolved</code> protocol as {@link #getValue}.</p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object whose property value is to be returned,
+     *     or <code>null</code> to resolve a top-level variable.
+     * @param property The property or variable to be resolved.
+     * @return If the <code>propertyResolved</code> property of
+     *     <code>ELContext</code> was set to <code>true</code>, then
+     *     the coerced result of the variable or property resolution;
+     *     otherwise undefined.
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws PropertyNotFoundException if the given (base, property) pair
+     *     is handled by this <code>ELResolver</code> but the specified
+     *     variable or property does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing
+     *     the property or variable resolution, or if the value cannot be
+     *     coerced to <code>boolean</code>.
+     */
+    @Override
+    public boolean getBooleanValue(ELContext context,
+                                   Object base,
+                                   Object property) {
+
+        context.setPropertyResolved(false);
+
+        if (profile != null) {
+            Boolean value = profile.consult(context, resolversFor(base), custom,
+                    elResolver -> elResolver.getBooleanValue(context, base, property));
+            return value != null && value;
+        }
+        for (ELResolver elResolver : resolversFor(base)) {
+            boolean value = elResolver.getBooleanValue(context, base, property);
+            if (context.isPropertyResolved()) {
+                return value;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Attempts to resolve the given <code>property</code> object on the given
+     * <code>base</code> object by querying all component resolvers, and
+     * returns its value coerced to <code>int</code>.
+     *
+     * <p>The component resolvers are queried in order through their
+     * {@link ELResolver#getIntValue} method, with the same
+     * <code>propertyResolved</code> protocol as {@link #getValue}.</p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object whose property value is to be returned,
+     *     or <code>null</code> to resolve a top-level variable.
+     * @param property The property or variable to be resolved.
+     * @return If the <code>propertyResolved</code> property of
+     *     <code>ELContext</code> was set to <code>true</code>, then
+     *     the coerced result of the variable or property resolution;
+     *     otherwise undefined.
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws PropertyNotFoundException if the given (base, property) pair
+     *     is handled by this <code>ELResolver</code> but the specified
+     *     variable or property does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing
+     *     the property or variable resolution, or if the value cannot be
+     *     coerced to <code>int</code>.
+     */
+    @Override
+    public int getIntValue(ELContext context,
+                           Object base,
+                           Object property) {
+
+        context.setPropertyResolved(false);
+
+        if (profile != null) {
+            Integer value = profile.consult(context, resolversFor(base), custom,
+                    elResolver -> elResolver.getIntValue(context, base, property));
+            return value == null ? 0 : value;
+        }
+        for (ELResolver elResolver : resolversFor(base)) {
+            int value = elResolver.getIntValue(context, base, property);
+            if (context.isPropertyResolved()) {
+                return value;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Attempts to resolve the given <code>property</code> object on the given
+     * <code>base</code> object by querying all component resolvers, and
+     * returns its value coerced to <code>long</code>.
+     *
+     * <p>The component resolvers are queried in order through their
+     * {@link ELResolver#getLongValue} method, with the same
+     * <code>propertyResolved</code> protocol as {@link #getValue}.</p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object whose property value is to be returned,
+     *     or <code>null</code> to resolve a top-level variable.
+     * @param property The property or variable to be resolved.
+     * @return If the <code>propertyResolved</code> property of
+     *     <code>ELContext</code> was set to <code>true</code>, then
+     *     the coerced result of the variable or property resolution;
+     *     otherwise undefined.
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws PropertyNotFoundException if the given (base, property) pair
+     *     is handled by this <code>ELResolver</code> but the specified
+     *     variable or property does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing
+     *     the property or variable resolution, or if the value cannot be
+     *     coerced to <code>long</code>.
+     */
+    @Override
+    public long getLongValue(ELContext context,
+                             Object base,
+                             Object property) {
+
+        context.setPropertyResolved(false);
+
+        if (profile != null) {
+            Long value = profile.consult(context, resolversFor(base), custom,
+                    elResolver -> elResolver.getLongValue(context, base, property));
+            return value == null ? 0 : value;
+        }
+        for (ELResolver elResolver : resolversFor(base)) {
+            long value = elResolver.getLongValue(context, base, property);
+            if (context.isPropertyResolved()) {
+                return value;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Attempts to resolve the given <code>property</code> object on the given
+     * <code>base</code> object by querying all component resolvers, and
+     * returns its value coerced to <code>double</code>.
+     *
+     * <p>The component resolvers are queried in order through their
+     * {@link ELResolver#getDoubleValue} method, with the same
+     * <code>propertyResolved</code> protocol as {@link #getValue}.</p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object whose property value is to be returned,
+     *     or <code>null</code> to resolve a top-level variable.
+     * @param property The property or variable to be resolved.
+     * @return If the <code>propertyResolved</code> property of
+     *     <code>ELContext</code> was set to <code>true</code>, then
+     *     the coerced result of the variable or property resolution;
+     *     otherwise undefined.
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws PropertyNotFoundException if the given (base, property) pair
+     *     is handled by this <code>ELResolver</code> but the specified
+     *     variable or property does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing
+     *     the property or variable resolution, or if the value cannot be
+     *     coerced to <code>double</code>.
+     */
+    @Override
+    public double getDoubleValue(ELContext context,
+                                 Object base,
+                                 Object property) {
+
+        context.setPropertyResolved(false);
+
+        if (profile != null) {
+            Double value = profile.consult(context, resolversFor(base), custom,
+                    elResolver -> elResolver.getDoubleValue(context, base, property));
+            return value == null ? 0 : value;
+        }
+        for (ELResolver elResolver : resolversFor(base)) {
+            double value = elResolver.getDoubleValue(context, base, property);
+            if (context.isPropertyResolved()) {
+                return value;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Attempts to resolve several properties of the same <code>base</code>
+     * object by querying all component resolvers.
+     *
+     * <p>The batch is offered to the component resolvers in order. If the
+     * first one that resolves any property resolves all of them, its values
+     * are returned, so that a resolver such as {@link BeanELResolver} can
+     * handle the whole batch at once. This is only done when all the
+     * resolvers consulted before it are standard resolvers, the stream
+     * resolver of a {@link StandardELContext}, or composites of those,
+     * which are known to decline every property of the base object once
+     * they decline one. Otherwise the remaining properties, after those it
+     * resolved if any, are resolved one at a time, as if by
+     * {@link #getValue}.</p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object whose property values are to be returned,
+     *     or <code>null</code> to resolve top-level variables.
+     * @param properties The properties or variables to be resolved.
+     * @param values The array receiving the values.
+     * @return The number of properties resolved, starting from the first.
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws PropertyNotFoundException if one of the (base, property)
+     *     pairs is handled by this <code>ELResolver</code> but the specified
+     *     variable or property does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing
+     *     the property or variable resolution. The thrown exception
+     *     must be included as the cause property of this exception, if
+     *     available.
+     */
+    @Override
+    public int getValues(ELContext context,
+                         Object base,
+                         Object[] properties,
+                         Object[] values) {
+
+        context.setPropertyResolved(false);
+
+        int start = 0;
+        for (ELResolver elResolver : resolversFor(base)) {
+            int resolved = elResolver.getValues(context, base, properties,
+                                                values);
+            if (resolved == properties.length) {
+                return resolved;
+            }
+            if (resolved > 0) {
+                // the properties it resolved are not read again
+                start = resolved;
+                break;
+            }
+            if (!declinesBase(elResolver, base)) {
+                break;
+            }
+        }
+        for (int i = start; i < properties.length; i++) {
+            values[i] = getValue(context, base, properties[i]);
+            if (!context.isPropertyResolved()) {
+                return i;
+            }
+        }
+        return properties.length;
+    }
+
+    /*
+     * Whether a resolver that did not resolve one property of the base
+     * would not resolve any other property of it either. Known for the
+     * stream resolver, which only resolves method invocations, for the
+     * standard resolvers, and for composites of those. Resolvers are matched
+     * by exact class since subclasses may resolve differently.
+     */
+    private boolean declinesBase(ELResolver elResolver, Object base) {
+        if (elResolver == streamELResolver) {
+            return true;
+        }
+        Class<?> type = elResolver.getClass();
+        if (type == CompositeELResolver.class) {
+            CompositeELResolver composite = (CompositeELResolver) elResolver;
+            for (ELResolver component : composite.resolversFor(base)) {
+                if (!composite.declinesBase(component, base)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (type == BeanNameELResolver.class) {
+            return base != null;
+        }
+        if (type == StaticFieldELResolver.class) {
+            return !(base instanceof ELClass);
+        }
+        return type == MapELResolver.class
+            || type == ListELResolver.class
+            || type == ArrayELResolver.class
+            || type == ResourceBundleELResolver.class
+            || type == BeanELResolver.class;
+    }
+
+    /*
+     * The component resolvers to consult for the given base object, in order.
+     */
+    private ELResolver[] resolversFor(Object base) {
+        return resolversForType(base == null ? null : base.getClass());
+    }
+
+    /*
+     * The component resolvers which may handle base objects of the given
+     * type, null for the null base, in order. Nested composites are always
+     * included, as resolvers may still be added to them. Once the table is
+     * full, all the component resolvers are returned for the other types.
+     */
+    private ELResolver[] resolversForType(Class<?> baseType) {
+        Dispatch dispatch = this.dispatch;
+        if (baseType == null) {
+            ELResolver[] result = dispatch.nullBaseResolvers;
+            if (result == null) {
+                dispatch.nullBaseResolvers = result =
+                    dispatch.findResolvers(null);
+            }
+            return result;
+        }
+        ELResolver[] result = dispatch.resolversByType.get(baseType);
+        if (result == null) {
+            if (dispatch.resolversByType.size() >= MAX_BASE_TYPES) {
+                // those that do not handle the type simply decline it
+                return dispatch.elResolvers;
+            }
+            result = dispatch.findResolvers(baseType);
+            dispatch.put(baseType, result);
+        }
+        return result;
+    }
+
+    /*
+     * The component resolvers, and the subsets of them to consult for the
+     * null base, for each base class and for each conversion. Replaced as a whole when a resolver
+     * is added, so that tables built from the previous resolvers are never
+     * used afterwards.
+     */
+    private volatile Dispatch dispatch;
+
+    private static final String PROFILE_PROPERTY = "org.jboss.el.resolver.profile";
+
+    /*
+     * The resolver chain profile when org.jboss.el.resolver.profile is set,
+     * null otherwise.
+     */
+    private static final CompositeELResolverProfile PROFILE =
+            AccessController.doPrivileged((PrivilegedAction<Boolean>) () -> Boolean.getBoolean(PROFILE_PROPERTY))
+                    ? CompositeELResolverProfile.register() : null;
+
+    // the profile this composite reports to, if any
+    CompositeELResolverProfile profile = PROFILE;
+
+    // set on the composite holding the resolvers added to a StandardELContext
+    boolean custom;
+
+    /*
+     * The stream resolver of the expression factory, when added by a
+     * StandardELContext. It only resolves method invocations.
+     */
+    ELResolver streamELResolver;
+
+    // bounds the base classes remembered per composite
+    private static final int MAX_BASE_TYPES = 64;
+
+    // bounds the conversion pairs remembered per composite
+    private static final int MAX_CONVERSION_TYPES = 64;
+
+    private static final class Dispatch {
+
+        final ELResolver[] elResolvers;
+
+        volatile ELResolver[] nullBaseResolvers;
+
+        /*
+         * Copied on write, so that lookups take no lock. Kept on the
+         * composite rather than attached to the classes, so that the tables
+         * go away with it.
+         */
+        volatile Map<Class<?>, ELResolver[]> resolversByType =
+            Collections.emptyMap();
+
+        /*
+         * Component resolvers that may convert types, and the subsets of
+         * them for each (target type, source type) pair, with void standing
+         * for null sources.
+         */
+        volatile ELResolver[] converters;
+        final ConcurrentMap<Class<?>, Map<Class<?>, ELResolver[]>> convertersByType =
+            new ConcurrentHashMap<Class<?>, Map<Class<?>, ELResolver[]>>();
+
+        Dispatch(ELResolver[] elResolvers) {
+            this.elResolvers = elResolvers;
+        }
+
+        ELResolver[] findResolvers(Class<?> baseType) {
+            List<ELResolver> list =
+                new ArrayList<ELResolver>(elResolvers.length);
+            for (ELResolver elResolver : elResolvers) {
+                if (elResolver instanceof CompositeELResolver ||
+                        !elResolver.ignoresBaseType(baseType)) {
+                    list.add(elResolver);
+                }
+            }
+            return list.toArray(new ELResolver[list.size()]);
+        }
+
+        synchronized void put(Class<?> baseType, ELResolver[] resolvers) {
+            if (resolversByType.size() < MAX_BASE_TYPES) {
+                Map<Class<?>, ELResolver[]> copy =
+                    new HashMap<Class<?>, ELResolver[]>(resolversByType);
+                copy.put(baseType, resolvers);
+                resolversByType = copy;
+            }
+        }
+    }
+
+    private static final class CompositeAccessor extends PropertyAccessor {
+
+        private final PropertyAccessor[] accessors;
+
+        CompositeAccessor(PropertyAccessor[] accessors) {
+            this.accessors = accessors;
+        }
+
+        @Override
+        public Class<?> getType(ELContext context, Object base) {
+            context.setPropertyResolved(false);
+            for (PropertyAccessor accessor : accessors) {
+                Class<?> type = accessor.getType(context, base);
+                if (context.isPropertyResolved()) {
+                    return type;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Object getValue(ELContext context, Object base) {
+            context.setPropertyResolved(false);
+            for (PropertyAccessor accessor : accessors) {
+                Object value = accessor.getValue(context, base);
+                if (context.isPropertyResolved()) {
+                    return value;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void setValue(ELContext context, Object base, Object value) {
+            context.setPropertyResolved(false);
+            for (PropertyAccessor accessor : accessors) {
+                accessor.setValue(context, base, value);
+                if (context.isPropertyResolved()) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean isReadOnly(ELContext context, Object base) {
+            context.setPropertyResolved(false);
+            for (PropertyAccessor accessor : accessors) {
+                boolean readOnly = accessor.isReadOnly(context, base);
+                if (context.isPropertyResolved()) {
+                    return readOnly;
+                }
+            }
+            return false;
+        }
+    }
 
     private static class CompositeIterator
             implements Iterator<FeatureDescriptor> {
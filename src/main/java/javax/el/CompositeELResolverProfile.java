@@ -0,0 +1,170 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package javax.el;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.jboss.el.cache.ManagementSupport;
+
+/*
+ * Counters behind CompositeELResolverProfileMXBean. Only created when the
+ * profile is enabled, so that composites pay nothing for it otherwise.
+ *
+ * Counters are kept by resolver class name rather than by class, so that
+ * the profile does not keep the class loaders of custom resolvers alive; a
+ * redeployed resolver carries on with the counters of its previous copy.
+ */
+final class CompositeELResolverProfile implements CompositeELResolverProfileMXBean {
+
+    private final ConcurrentMap<String, Counters> counters =
+            new ConcurrentHashMap<String, Counters>();
+
+    private final ClassValue<Counters> countersByClass = new ClassValue<Counters>() {
+        @Override
+        protected Counters computeValue(Class<?> type) {
+            return counters.computeIfAbsent(type.getName(), Counters::new);
+        }
+    };
+
+    /*
+     * Creates the profile and registers it in the platform MBean server,
+     * through org.jboss.el.cache so that this package does not depend on JMX.
+     */
+    static CompositeELResolverProfile register() {
+        CompositeELResolverProfile profile = new CompositeELResolverProfile();
+        ManagementSupport.register(profile, OBJECT_NAME);
+        return profile;
+    }
+
+    /*
+     * Consults the resolvers in order, the way the composite methods do, and
+     * counts each call. Nested composites are not counted, their components
+     * count themselves. A call which throws counts as resolved if it set
+     * propertyResolved first.
+     */
+    <T> T consult(ELContext context, ELResolver[] resolvers, boolean custom,
+                  Function<ELResolver, T> call) {
+        for (ELResolver resolver : resolvers) {
+            T value;
+            if (resolver instanceof CompositeELResolver) {
+                value = call.apply(resolver);
+            } else {
+                Counters c = countersByClass.get(resolver.getClass());
+                long start = System.nanoTime();
+                try {
+                    value = call.apply(resolver);
+                } finally {
+                    c.record(custom, context.isPropertyResolved(), System.nanoTime() - start);
+                }
+            }
+            if (context.isPropertyResolved()) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public List<ELResolverStatistics> getResolverStatistics() {
+        List<ELResolverStatistics> statistics = new ArrayList<ELResolverStatistics>();
+        for (Counters c : counters.values()) {
+            if (c.consulted.sum() > 0) {
+                statistics.add(c.snapshot());
+            }
+        }
+        Collections.sort(statistics,
+                Comparator.comparingLong(ELResolverStatistics::getTime).reversed());
+        return statistics;
+    }
+
+    @Override
+    public List<String> getSuggestedOrder() {
+        List<Counters> custom = new ArrayList<Counters>();
+        for (Counters c : counters.values()) {
+            if (c.custom && c.consulted.sum() > 0) {
+                custom.add(c);
+            }
+        }
+        // resolutions per second spent in the resolver, the best first
+        Collections.sort(custom, Comparator.comparingDouble(
+                (Counters c) -> c.resolved.sum() / (c.nanos.sum() + 1.0)).reversed());
+        List<String> order = new ArrayList<String>(custom.size());
+        for (Counters c : custom) {
+            order.add(c.name);
+        }
+        return order;
+    }
+
+    @Override
+    public void resetStatistics() {
+        // the counters stay, as they are also attached to the classes
+        for (Counters c : counters.values()) {
+            c.consulted.reset();
+            c.resolved.reset();
+            c.nanos.reset();
+            c.declinedNanos.reset();
+        }
+    }
+
+    private static final class Counters {
+
+        final String name;
+        volatile boolean custom;
+        final LongAdder consulted = new LongAdder();
+        final LongAdder resolved = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final LongAdder declinedNanos = new LongAdder();
+
+        Counters(String name) {
+            this.name = name;
+        }
+
+        void record(boolean custom, boolean resolved, long nanos) {
+            if (custom && !this.custom) {
+                this.custom = true;
+            }
+            consulted.increment();
+            this.nanos.add(nanos);
+            if (resolved) {
+                this.resolved.increment();
+            } else {
+                declinedNanos.add(nanos);
+            }
+        }
+
+        ELResolverStatistics snapshot() {
+            return new ELResolverStatistics(name, custom, consulted.sum(),
+                    resolved.sum(), TimeUnit.NANOSECONDS.toMicros(nanos.sum()),
+                    TimeUnit.NANOSECONDS.toMicros(declinedNanos.sum()));
+        }
+    }
+}
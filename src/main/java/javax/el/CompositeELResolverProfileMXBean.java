@@ -0,0 +1,70 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package javax.el;
+
+import java.util.List;
+
+/**
+ * Management interface of the resolver chain profile of
+ * {@link CompositeELResolver}, registered as {@value #OBJECT_NAME} when
+ * <code>org.jboss.el.resolver.profile</code> is set. It is registered and
+ * unregistered through <code>org.jboss.el.cache.ManagementSupport</code>.
+ *
+ * <p>The profile counts, for each class of component resolver, how often
+ * composites consult it, how often it resolves, and how long it takes.
+ * Nested composites are not counted themselves, their components are.</p>
+ *
+ * <p>This interface is a JBoss extension to the EL API.</p>
+ *
+ * @see CompositeELResolver#getProfile
+ */
+public interface CompositeELResolverProfileMXBean {
+
+    /**
+     * The name the profile is registered under in the platform MBean server.
+     */
+    String OBJECT_NAME = "org.jboss.el:type=CompositeELResolverProfile";
+
+    /**
+     * @return A snapshot of the counters of each resolver class, most time
+     *     consuming first.
+     */
+    List<ELResolverStatistics> getResolverStatistics();
+
+    /**
+     * Suggests an order for the resolvers added through
+     * {@link StandardELContext#addELResolver}: the ones which resolve most
+     * often for the time they take come first, so that less time is spent
+     * in resolvers which decline. Reordering is only safe for resolvers
+     * which never resolve the same (base, property) pairs.
+     *
+     * @return The class names of the custom resolvers, in suggested order.
+     */
+    List<String> getSuggestedOrder();
+
+    /**
+     * Resets all counters.
+     */
+    void resetStatistics();
+}
@@ -453,22 +453,24 @@ public abstract class ELContext {
      */
     public Object convertToType(Object obj,
                                 Class<?> targetType) {
-        boolean propertyResolvedSave = isPropertyResolved();
-        try {
-            setPropertyResolved(false);
-            ELResolver elResolver = getELResolver();
-            if (elResolver != null) {
+        ELResolver elResolver = getELResolver();
+        // most resolver chains have no custom converter for the pair
+        if (elResolver != null && elResolver.mayConvert(
+                obj == null ? null : obj.getClass(), targetType)) {
+            boolean propertyResolvedSave = isPropertyResolved();
+            try {
+                setPropertyResolved(false);
                 Object res = elResolver.convertToType(this, obj, targetType);
                 if (isPropertyResolved()) {
                     return res;
                 }
+            } catch (ELException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new ELException(ex);
+            } finally {
+                setPropertyResolved(propertyResolvedSave);
             }
-        } catch (ELException ex) {
-            throw ex;
-        } catch (Exception ex) {
-            throw new ELException(ex);
-        } finally {
-            setPropertyResolved(propertyResolvedSave);
         }
         return ELUtil.getExpressionFactory().coerceToType(obj, targetType);
     }
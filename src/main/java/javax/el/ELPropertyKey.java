@@ -0,0 +1,184 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package javax.el;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An interned property name, which expression implementations can pass to
+ * the <code>ELResolver</code> methods in place of the <code>String</code>
+ * name of a property.
+ *
+ * <p>There is exactly one key per name, so keys can be compared by
+ * identity. Each key also carries a small integer id, which resolvers use to
+ * look properties up in perfect-hash tables instead of hashing and comparing
+ * the name on every access. Resolvers which do not know about keys see the
+ * name through {@link #toString}.</p>
+ *
+ * <p>Keys should only be created for names that appear in the text of
+ * expressions, such as the identifier in <code>${bean.name}</code>, and not
+ * for computed property names. A key is released once nothing refers to it
+ * any more, and a new one is created if the name is used again. The ids of
+ * released keys are handed out again, so that ids stay dense however many
+ * keys come and go.</p>
+ *
+ * <p>This class is a JBoss extension to the EL API.</p>
+ */
+public final class ELPropertyKey {
+
+    private static final ConcurrentHashMap<String, KeyReference> KEYS =
+        new ConcurrentHashMap<String, KeyReference>();
+    private static final ReferenceQueue<ELPropertyKey> QUEUE =
+        new ReferenceQueue<ELPropertyKey>();
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+    private static final Queue<Integer> FREE_IDS =
+        new ConcurrentLinkedQueue<Integer>();
+
+    private final String name;
+    private final int hash;
+    private final int id;
+
+    private ELPropertyKey(String name) {
+        this.name = name;
+        int h = name.hashCode();
+        this.hash = h ^ (h >>> 16);
+        Integer free = FREE_IDS.poll();
+        this.id = free != null ? free : NEXT_ID.getAndIncrement();
+    }
+
+    /**
+     * Returns the key for the given property name.
+     *
+     * @param name The name of the property.
+     * @return The key; the same instance is returned for equal names.
+     * @throws NullPointerException if name is <code>null</code>.
+     */
+    public static ELPropertyKey of(String name) {
+        ELPropertyKey key = lookup(name);
+        if (key != null) {
+            return key;
+        }
+        expunge();
+        key = new ELPropertyKey(name);
+        KeyReference ref = new KeyReference(key, QUEUE);
+        for (;;) {
+            KeyReference existing = KEYS.putIfAbsent(name, ref);
+            if (existing == null) {
+                return key;
+            }
+            ELPropertyKey existingKey = existing.get();
+            if (existingKey != null) {
+                return existingKey;
+            }
+            // released, but not expunged yet
+            if (KEYS.replace(name, existing, ref)) {
+                return key;
+            }
+        }
+    }
+
+    /**
+     * Returns the key for the given property name if there is one, without
+     * creating it.
+     *
+     * @param name The name of the property.
+     * @return The key, or <code>null</code> if there is no key for the name.
+     * @throws NullPointerException if name is <code>null</code>.
+     */
+    public static ELPropertyKey lookup(String name) {
+        KeyReference ref = KEYS.get(name);
+        return ref == null ? null : ref.get();
+    }
+
+    private static void expunge() {
+        KeyReference ref;
+        while ((ref = (KeyReference) QUEUE.poll()) != null) {
+            KEYS.remove(ref.name, ref);
+            // every key has a reference, including those that lost a race
+            FREE_IDS.add(ref.id);
+        }
+    }
+
+    /**
+     * Returns the name of the property.
+     *
+     * @return The name of the property.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the id of this key. Ids are small, non-negative and unique
+     * among the keys in use. They are handed out in creation order, the ids
+     * of released keys first.
+     *
+     * @return The id of this key.
+     */
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /*
+     * Returns the name if the property is a key, or the property itself,
+     * for resolvers which look at String properties.
+     */
+    static Object unwrap(Object property) {
+        if (property instanceof ELPropertyKey) {
+            return ((ELPropertyKey) property).name;
+        }
+        return property;
+    }
+
+    private static final class KeyReference extends WeakReference<ELPropertyKey> {
+
+        final String name;
+        final int id;
+
+        KeyReference(ELPropertyKey key, ReferenceQueue<ELPropertyKey> queue) {
+            super(key, queue);
+            this.name = key.name;
+            this.id = key.id;
+        }
+    }
+}
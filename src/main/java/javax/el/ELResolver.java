@@ -58,6 +58,7 @@
 
 package javax.el;
 
+import java.lang.reflect.Method;
 import java.util.Iterator;
 import java.beans.FeatureDescriptor;
 
@@ -451,4 +452,342 @@ public abstract class ELResolver {
                                 Class<?> targetType) {
         return null;
     }
+
+    /**
+     * Returns a reusable accessor for the given <code>property</code> of
+     * base objects of the given type.
+     * <p>The accessor behaves like the {@link #getValue}, {@link #getType},
+     * {@link #setValue} and {@link #isReadOnly} methods of this resolver
+     * called with the same property, but may do the work that only depends
+     * on the base type and the property ahead of time. Expression
+     * implementations can cache it for as long as the class of the base
+     * object does not change.</p>
+     * <p>A default implementation is provided that returns <code>null</code>,
+     * which means that no accessor is available and the methods of this
+     * resolver have to be called directly.</p>
+     * <p>This method is a JBoss extension to the EL API.</p>
+     * @param context The context of this evaluation.
+     * @param baseType The class of the base objects the accessor will be
+     *     used with, or <code>null</code> for top-level variables.
+     * @param property The property the accessor will access.
+     * @return An accessor for the (base type, property) pair, or
+     *     <code>null</code> if this resolver cannot provide one.
+     * @see PropertyAccessor
+     */
+    public PropertyAccessor getAccessor(ELContext context,
+                                        Class<?> baseType,
+                                        Object property) {
+        return null;
+    }
+
+    /**
+     * Returns whether this resolver may handle base objects of the given
+     * type.
+     * <p>If <code>false</code> is returned, the {@link #getValue},
+     * {@link #getType}, {@link #setValue}, {@link #isReadOnly} and
+     * {@link #invoke} methods of this resolver, and the typed variants of
+     * <code>getValue</code>, never set the
+     * <code>propertyResolved</code> property of the <code>ELContext</code>
+     * for such base objects, whatever the property, so a
+     * {@link CompositeELResolver} can skip this resolver for them.</p>
+     * <p>A default implementation is provided that returns <code>true</code>.
+     * Resolvers which only handle some base types, such as maps or the
+     * <code>null</code> base of top-level variables, should override it.
+     * The answer is ignored for subclasses which override one of the
+     * methods above without overriding this one too.</p>
+     * <p>This method is a JBoss extension to the EL API.</p>
+     * @param baseType The class of the base objects, or <code>null</code>
+     *     for top-level variables.
+     * @return <code>false</code> if this resolver never handles base objects
+     *     of the given type, <code>true</code> otherwise.
+     */
+    public boolean handlesBaseType(Class<?> baseType) {
+        return true;
+    }
+
+    /**
+     * Attempts to resolve several properties of the same <code>base</code>
+     * object in one call, for instance the columns of a table row.
+     *
+     * <p>The properties are resolved in order, as if by {@link #getValue},
+     * and the value of <code>properties[i]</code> is stored in
+     * <code>values[i]</code>. Resolution stops at the first property this
+     * resolver does not handle, and the number of properties resolved so
+     * far is returned. The <code>propertyResolved</code> property of the
+     * <code>ELContext</code> is <code>true</code> on return if all the
+     * properties were resolved.</p>
+     *
+     * <p>A default implementation is provided that calls
+     * {@link #getValue} for each property. Resolvers which can share work
+     * between the properties of one base object should override it.</p>
+     *
+     * <p>This method is a JBoss extension to the EL API.</p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object whose property values are to be returned,
+     *     or <code>null</code> to resolve top-level variables.
+     * @param properties The properties or variables to be resolved.
+     * @param values The array receiving the values; must be at least as
+     *     long as <code>properties</code>.
+     * @return The number of properties resolved, starting from the first.
+     *     Values past that number are undefined.
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws PropertyNotFoundException if one of the (base, property)
+     *     pairs is handled by this <code>ELResolver</code> but the specified
+     *     variable or property does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing
+     *     the property or variable resolution. The thrown exception
+     *     must be included as the cause property of this exception, if
+     *     available.
+     */
+    public int getValues(ELContext context,
+                         Object base,
+                         Object[] properties,
+                         Object[] values) {
+        for (int i = 0; i < properties.length; i++) {
+            context.setPropertyResolved(false);
+            values[i] = getValue(context, base, properties[i]);
+            if (!context.isPropertyResolved()) {
+                return i;
+            }
+        }
+        return properties.length;
+    }
+
+    /**
+     * Attempts to resolve the given <code>property</code> object on the given
+     * <code>base</code> object, and returns its value coerced to
+     * <code>boolean</code>.
+     *
+     * <p>This is the same as {@link #getValue} followed by a coercion with
+     * {@link ELContext#convertToType}, and follows the same
+     * <code>propertyResolved</code> protocol. Resolvers which can read
+     * <code>boolean</code> properties without boxing the value should override
+     * it; a default implementation is provided that calls
+     * {@link #getValue}.</p>
+     *
+     * <p>This method is a JBoss extension to the EL API.</p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object whose property value is to be returned,
+     *     or <code>null</code> to resolve a top-level variable.
+     * @param property The property or variable to be resolved.
+     * @return If the <code>propertyResolved</code> property of
+     *     <code>ELContext</code> was set to <code>true</code>, then
+     *     the coerced result of the variable or property resolution;
+     *     otherwise undefined.
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws PropertyNotFoundException if the given (base, property) pair
+     *     is handled by this <code>ELResolver</code> but the specified
+     *     variable or property does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing
+     *     the property or variable resolution, or if the value cannot be
+     *     coerced to <code>boolean</code>.
+     */
+    public boolean getBooleanValue(ELContext context,
+                                   Object base,
+                                   Object property) {
+        Object value = getValue(context, base, property);
+        if (!context.isPropertyResolved()) {
+            return false;
+        }
+        return (Boolean) context.convertToType(value, boolean.class);
+    }
+
+    /**
+     * Attempts to resolve the given <code>property</code> object on the given
+     * <code>base</code> object, and returns its value coerced to
+     * <code>int</code>.
+     *
+     * <p>This is the same as {@link #getValue} followed by a coercion with
+     * {@link ELContext#convertToType}, and follows the same
+     * <code>propertyResolved</code> protocol. Resolvers which can read
+     * <code>int</code> properties without boxing the value should override
+     * it; a default implementation is provided that calls
+     * {@link #getValue}.</p>
+     *
+     * <p>This method is a JBoss extension to the EL API.</p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object whose property value is to be returned,
+     *     or <code>null</code> to resolve a top-level variable.
+     * @param property The property or variable to be resolved.
+     * @return If the <code>propertyResolved</code> property of
+     *     <code>ELContext</code> was set to <code>true</code>, then
+     *     the coerced result of the variable or property resolution;
+     *     otherwise undefined.
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws PropertyNotFoundException if the given (base, property) pair
+     *     is handled by this <code>ELResolver</code> but the specified
+     *     variable or property does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing
+     *     the property or variable resolution, or if the value cannot be
+     *     coerced to <code>int</code>.
+     */
+    public int getIntValue(ELContext context,
+                           Object base,
+                           Object property) {
+        Object value = getValue(context, base, property);
+        if (!context.isPropertyResolved()) {
+            return 0;
+        }
+        return (Integer) context.convertToType(value, int.class);
+    }
+
+    /**
+     * Attempts to resolve the given <code>property</code> object on the given
+     * <code>base</code> object, and returns its value coerced to
+     * <code>long</code>.
+     *
+     * <p>This is the same as {@link #getValue} followed by a coercion with
+     * {@link ELContext#convertToType}, and follows the same
+     * <code>propertyResolved</code> protocol. Resolvers which can read
+     * <code>long</code> properties without boxing the value should override
+     * it; a default implementation is provided that calls
+     * {@link #getValue}.</p>
+     *
+     * <p>This method is a JBoss extension to the EL API.</p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object whose property value is to be returned,
+     *     or <code>null</code> to resolve a top-level variable.
+     * @param property The property or variable to be resolved.
+     * @return If the <code>propertyResolved</code> property of
+     *     <code>ELContext</code> was set to <code>true</code>, then
+     *     the coerced result of the variable or property resolution;
+     *     otherwise undefined.
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws PropertyNotFoundException if the given (base, property) pair
+     *     is handled by this <code>ELResolver</code> but the specified
+     *     variable or property does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing
+     *     the property or variable resolution, or if the value cannot be
+     *     coerced to <code>long</code>.
+     */
+    public long getLongValue(ELContext context,
+                             Object base,
+                             Object property) {
+        Object value = getValue(context, base, property);
+        if (!context.isPropertyResolved()) {
+            return 0;
+        }
+        return (Long) context.convertToType(value, long.class);
+    }
+
+    /**
+     * Attempts to resolve the given <code>property</code> object on the given
+     * <code>base</code> object, and returns its value coerced to
+     * <code>double</code>.
+     *
+     * <p>This is the same as {@link #getValue} followed by a coercion with
+     * {@link ELContext#convertToType}, and follows the same
+     * <code>propertyResolved</code> protocol. Resolvers which can read
+     * <code>double</code> properties without boxing the value should override
+     * it; a default implementation is provided that calls
+     * {@link #getValue}.</p>
+     *
+     * <p>This method is a JBoss extension to the EL API.</p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object whose property value is to be returned,
+     *     or <code>null</code> to resolve a top-level variable.
+     * @param property The property or variable to be resolved.
+     * @return If the <code>propertyResolved</code> property of
+     *     <code>ELContext</code> was set to <code>true</code>, then
+     *     the coerced result of the variable or property resolution;
+     *     otherwise undefined.
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws PropertyNotFoundException if the given (base, property) pair
+     *     is handled by this <code>ELResolver</code> but the specified
+     *     variable or property does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing
+     *     the property or variable resolution, or if the value cannot be
+     *     coerced to <code>double</code>.
+     */
+    public double getDoubleValue(ELContext context,
+                                 Object base,
+                                 Object property) {
+        Object value = getValue(context, base, property);
+        if (!context.isPropertyResolved()) {
+            return 0;
+        }
+        return (Double) context.convertToType(value, double.class);
+    }
+
+    /*
+     * Returns whether convertToType may convert objects of the source type,
+     * null for null, to the target type. Resolvers that do not override
+     * convertToType never do, so ELContext can skip asking them.
+     */
+    boolean mayConvert(Class<?> sourceType, Class<?> targetType) {
+        return CONVERT_DECLARED_BY.get(getClass()) != ELResolver.class;
+    }
+
+    /*
+     * Returns whether this resolver may be skipped for base objects of the
+     * given type, null for the null base: handlesBaseType says it does not
+     * handle them, and can be trusted for the class of this resolver.
+     */
+    boolean ignoresBaseType(Class<?> baseType) {
+        return BASE_TYPES_DECLARED.get(getClass()) && !handlesBaseType(baseType);
+    }
+
+    /*
+     * Whether the handlesBaseType method of each resolver class is declared
+     * by a subclass of, or the same class as, the declarers of the methods
+     * it answers for; a subclass which only overrides getValue, say, may
+     * handle more than its superclass says.
+     */
+    static final ClassValue<Boolean> BASE_TYPES_DECLARED = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                Class<?> declarer = type.getMethod("handlesBaseType",
+                        Class.class).getDeclaringClass();
+                Method[] methods = {
+                    type.getMethod("getValue", ELContext.class,
+                            Object.class, Object.class),
+                    type.getMethod("getType", ELContext.class,
+                            Object.class, Object.class),
+                    type.getMethod("setValue", ELContext.class,
+                            Object.class, Object.class, Object.class),
+                    type.getMethod("isReadOnly", ELContext.class,
+                            Object.class, Object.class),
+                    type.getMethod("invoke", ELContext.class, Object.class,
+                            Object.class, Class[].class, Object[].class),
+                    type.getMethod("getBooleanValue", ELContext.class,
+                            Object.class, Object.class),
+                    type.getMethod("getIntValue", ELContext.class,
+                            Object.class, Object.class),
+                    type.getMethod("getLongValue", ELContext.class,
+                            Object.class, Object.class),
+                    type.getMethod("getDoubleValue", ELContext.class,
+                            Object.class, Object.class)
+                };
+                for (Method method : methods) {
+                    if (!method.getDeclaringClass().isAssignableFrom(declarer)) {
+                        return false;
+                    }
+                }
+                return true;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    /*
+     * The class declaring the convertToType method of each resolver class.
+     */
+    static final ClassValue<Class<?>> CONVERT_DECLARED_BY = new ClassValue<Class<?>>() {
+        @Override
+        protected Class<?> computeValue(Class<?> type) {
+            try {
+                return type.getMethod("convertToType", ELContext.class,
+                        Object.class, Class.class).getDeclaringClass();
+            } catch (NoSuchMethodException e) {
+                return type;
+            }
+        }
+    };
 }
@@ -0,0 +1,113 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package javax.el;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * The counters of one component resolver class, as collected by the
+ * {@link CompositeELResolverProfileMXBean resolver chain profile}.
+ *
+ * <p>Instances are immutable snapshots; counters of resolvers of the same
+ * class are added up, whichever composite they are part of.</p>
+ *
+ * <p>This class is a JBoss extension to the EL API.</p>
+ *
+ * @see CompositeELResolver#getProfile
+ */
+public final class ELResolverStatistics {
+
+    private final String resolver;
+    private final boolean custom;
+    private final long consultedCount;
+    private final long resolvedCount;
+    private final long time;
+    private final long declinedTime;
+
+    @ConstructorProperties({"resolver", "custom", "consultedCount",
+            "resolvedCount", "time", "declinedTime"})
+    public ELResolverStatistics(String resolver, boolean custom,
+            long consultedCount, long resolvedCount, long time,
+            long declinedTime) {
+        this.resolver = resolver;
+        this.custom = custom;
+        this.consultedCount = consultedCount;
+        this.resolvedCount = resolvedCount;
+        this.time = time;
+        this.declinedTime = declinedTime;
+    }
+
+    /**
+     * @return The class name of the resolver.
+     */
+    public String getResolver() {
+        return resolver;
+    }
+
+    /**
+     * @return Whether the resolver was added through
+     *     {@link StandardELContext#addELResolver}.
+     */
+    public boolean isCustom() {
+        return custom;
+    }
+
+    /**
+     * @return The number of times the resolver was consulted.
+     */
+    public long getConsultedCount() {
+        return consultedCount;
+    }
+
+    /**
+     * @return The number of times the resolver set the
+     *     <code>propertyResolved</code> property of the
+     *     <code>ELContext</code>.
+     */
+    public long getResolvedCount() {
+        return resolvedCount;
+    }
+
+    /**
+     * @return The total time spent in the resolver, in microseconds.
+     */
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * @return The part of {@link #getTime} spent in calls which did not
+     *     resolve, in microseconds.
+     */
+    public long getDeclinedTime() {
+        return declinedTime;
+    }
+
+    @Override
+    public String toString() {
+        return resolver + "[consulted=" + consultedCount
+                + ", resolved=" + resolvedCount + ", time=" + time
+                + "us, declinedTime=" + declinedTime + "us]";
+    }
+}
@@ -58,6 +58,7 @@
 
 package javax.el;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -242,38 +243,27 @@ class ELUtil {
                                   Class<?>[] paramTypes,
                                   Object[] params) {
 
-        if (paramTypes != null) {
-            try {
-                Constructor<?> c = klass.getConstructor(paramTypes);
-                if (Modifier.isPublic(c.getModifiers())) {
-                    return c;
-                }
-            } catch (java.lang.NoSuchMethodException ex) {
-            }
+        // ranked like methods, and cached per class and argument types
+        Constructor<?> c = Util.findConstructor(klass, paramTypes, params);
+        if (c == null) {
             throw new MethodNotFoundException("The constructor for class " +
                            klass + " not found or accessible");
         }
-
-        int paramCount = (params == null)? 0: params.length;
-        for (Constructor<?> c: klass.getConstructors()) {
-            if (c.isVarArgs() || c.getParameterTypes().length==paramCount) {
-                return c;
-            }
-        }
-        throw new MethodNotFoundException("The constructor for class " +
-                     klass +  " not found");
+        return c;
     }
 
     static Object invokeConstructor(ELContext context,
                                     Constructor<?> c,
                                     Object[] params) {
-        Class[] parameterTypes = c.getParameterTypes();
-        Object[] parameters = null;
-        if (parameterTypes.length > 0) {
-            parameters = new Object[parameterTypes.length];
-            for (int i = 0; i < parameterTypes.length; i++) {
-                parameters[i] = context.convertToType(params[i],
-                                                      parameterTypes[i]);
+        CoercionPlan plan = CoercionPlan.of(c);
+        Object[] parameters = plan.build(context, params);
+        MethodHandle invoker = plan.getInvoker();
+        if (invoker != null) {
+            try {
+                return (Object) invoker.invokeExact((Object) null, parameters);
+            } catch (Throwable t) {
+                // what reflection wraps in an InvocationTargetException
+                throw new ELException(t);
             }
         }
         try {
@@ -298,13 +288,17 @@ class ELUtil {
     static Object invokeMethod(ELContext context,
                                Method m, Object base, Object[] params) {
 
-        Class[] parameterTypes = m.getParameterTypes();
-        Object[] parameters = null;
-        if (parameterTypes.length > 0) {
-            parameters = new Object[parameterTypes.length];
-            for (int i = 0; i < parameterTypes.length; i++) {
-                parameters[i] = context.convertToType(params[i],
-                                                      parameterTypes[i]);
+        CoercionPlan plan = CoercionPlan.of(m);
+        Object[] parameters = plan.build(context, params);
+        MethodHandle invoker = plan.getInvoker();
+        // a base of the wrong type is left to reflection, which reports it
+        if (invoker != null && (Modifier.isStatic(m.getModifiers()) ||
+                                m.getDeclaringClass().isInstance(base))) {
+            try {
+                return (Object) invoker.invokeExact(base, parameters);
+            } catch (Throwable t) {
+                // what reflection wraps in an InvocationTargetException
+                throw new ELException(t);
             }
         }
         try {
@@ -148,16 +148,18 @@ public class ListELResolver extends ELResolver {
 
         if (base != null && base instanceof List) {
             context.setPropertyResolved(true);
-            List list = (List) base;
-            int index = toInteger(property);
-            if (index < 0 || index >= list.size()) {
-                throw new PropertyNotFoundException();
-            } 
-            return Object.class;
+            return getType((List) base, toInteger(property));
         }
         return null;
     }
 
+    private Class<?> getType(List list, int index) {
+        if (index < 0 || index >= list.size()) {
+            throw new PropertyNotFoundException();
+        } 
+        return Object.class;
+    }
+
     /**
      * If the base object is a list, returns the value at the given index.
      * The index is specified by the <code>property</code> argument, and
@@ -198,16 +200,18 @@ public class ListELResolver extends ELResolver {
 
         if (base != null && base instanceof List) {
             context.setPropertyResolved(base, property);
-            List list = (List) base;
-            int index = toInteger(property);
-            if (index < 0 || index >= list.size()) {
-                return null;
-            } 
-            return list.get(index);
+            return getValue((List) base, toInteger(property));
         }
         return null;
     }
 
+    private Object getValue(List list, int index) {
+        if (index < 0 || index >= list.size()) {
+            return null;
+        } 
+        return list.get(index);
+    }
+
     /**
      * If the base object is a list, attempts to set the value at the
      * given index with the given value. The index is specified by the
@@ -271,23 +275,26 @@ public class ListELResolver extends ELResolver {
             // Safe cast
             @SuppressWarnings("unchecked")
             List<Object> list = (List) base;
-            int index = toInteger(property);
-            if (isReadOnly) {
-                throw new PropertyNotWritableException();
-            }
-            try {
-                list.set(index, val);
-            } catch (UnsupportedOperationException ex) {
-                throw new PropertyNotWritableException();
-            } catch (IndexOutOfBoundsException ex) {
-                throw new PropertyNotFoundException();
-            } catch (ClassCastException ex) {
-                throw ex;
-            } catch (NullPointerException ex) {
-                throw ex;
-            } catch (IllegalArgumentException ex) {
-                throw ex;
-            }
+            setValue(list, toInteger(property), val);
+        }
+    }
+
+    private void setValue(List<Object> list, int index, Object val) {
+        if (isReadOnly) {
+            throw new PropertyNotWritableException();
+        }
+        try {
+            list.set(index, val);
+        } catch (UnsupportedOperationException ex) {
+            throw new PropertyNotWritableException();
+        } catch (IndexOutOfBoundsException ex) {
+            throw new PropertyNotFoundException();
+        } catch (ClassCastException ex) {
+            throw ex;
+        } catch (NullPointerException ex) {
+            throw ex;
+        } catch (IllegalArgumentException ex) {
+            throw ex;
         }
     }
 
@@ -344,16 +351,18 @@ public class ListELResolver extends ELResolver {
 
         if (base != null && base instanceof List) {
             context.setPropertyResolved(true);
-            List list = (List) base;
-            int index = toInteger(property);
-            if (index < 0 || index >= list.size()) {
-                throw new PropertyNotFoundException();
-            } 
-            return list.getClass() == theUnmodifiableListClass || isReadOnly;
+            return isReadOnly((List) base, toInteger(property));
         }
         return false;
     }
 
+    private boolean isReadOnly(List list, int index) {
+        if (index < 0 || index >= list.size()) {
+            throw new PropertyNotFoundException();
+        } 
+        return list.getClass() == theUnmodifiableListClass || isReadOnly;
+    }
+
     /**
      * Always returns <code>null</code>, since there is no reason to 
      * iterate through set set of all integers.
@@ -396,6 +405,7 @@ public class ListELResolver extends ELResolver {
     }
     
     private int toInteger(Object p) {
+        p = ELPropertyKey.unwrap(p);
         if (p instanceof Integer) {
             return ((Integer) p).intValue();
         }
@@ -411,6 +421,109 @@ public class ListELResolver extends ELResolver {
         throw new IllegalArgumentException();
     }
 
+    /**
+     * If the base type is a <code>List</code>, returns an accessor for the
+     * given index of lists of that type.
+     *
+     * <p>The property is coerced to an integer once, when the accessor is
+     * created. If that fails, <code>null</code> is returned, so that the
+     * caller goes through {@link #getValue} and friends, which report the
+     * invalid index.</p>
+     *
+     * @param context The context of this evaluation.
+     * @param baseType The class of the lists.
+     * @param property The index of the element.
+     * @return An accessor for the element, or <code>null</code> if the
+     *     property is not a valid index.
+     */
+    @Override
+    public PropertyAccessor getAccessor(ELContext context,
+                                        Class<?> baseType,
+                                        Object property) {
+
+        if (baseType == null || !List.class.isAssignableFrom(baseType)) {
+            return PropertyAccessor.UNRESOLVED;
+        }
+        int index;
+        try {
+            index = toInteger(property);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+        return new ListAccessor(property, index);
+    }
+
+    /**
+     * Returns whether the base type is a <code>List</code>.
+     *
+     * @param baseType The class of the lists.
+     * @return Whether this resolver handles base objects of the type.
+     */
+    @Override
+    public boolean handlesBaseType(Class<?> baseType) {
+        return baseType != null && List.class.isAssignableFrom(baseType);
+    }
+
+    private final class ListAccessor extends PropertyAccessor {
+
+        private final Object property;
+        private final int index;
+
+        ListAccessor(Object property, int index) {
+            this.property = property;
+            this.index = index;
+        }
+
+        @Override
+        public Class<?> getType(ELContext context, Object base) {
+            if (context == null) {
+                throw new NullPointerException();
+            }
+            if (base instanceof List) {
+                context.setPropertyResolved(true);
+                return ListELResolver.this.getType((List) base, index);
+            }
+            return null;
+        }
+
+        @Override
+        public Object getValue(ELContext context, Object base) {
+            if (context == null) {
+                throw new NullPointerException();
+            }
+            if (base instanceof List) {
+                context.setPropertyResolved(base, property);
+                return ListELResolver.this.getValue((List) base, index);
+            }
+            return null;
+        }
+
+        @Override
+        public void setValue(ELContext context, Object base, Object value) {
+            if (context == null) {
+                throw new NullPointerException();
+            }
+            if (base instanceof List) {
+                context.setPropertyResolved(base, property);
+                @SuppressWarnings("unchecked")
+                List<Object> list = (List) base;
+                ListELResolver.this.setValue(list, index, value);
+            }
+        }
+
+        @Override
+        public boolean isReadOnly(ELContext context, Object base) {
+            if (context == null) {
+                throw new NullPointerException();
+            }
+            if (base instanceof List) {
+                context.setPropertyResolved(true);
+                return ListELResolver.this.isReadOnly((List) base, index);
+            }
+            return false;
+        }
+    }
+
     private boolean isReadOnly;
 }
 
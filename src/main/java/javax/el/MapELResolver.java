@@ -196,7 +196,7 @@ public class MapELResolver extends ELResolver {
         if (base != null && base instanceof Map) {
             context.setPropertyResolved(base, property);
             Map map = (Map) base;
-            return map.get(property);
+            return map.get(ELPropertyKey.unwrap(property));
         }
         return null;
     }
@@ -264,7 +264,7 @@ public class MapELResolver extends ELResolver {
                 throw new PropertyNotWritableException();
             }
             try {
-                map.put(property, val);
+                map.put(ELPropertyKey.unwrap(property), val);
             } catch (UnsupportedOperationException ex) {
                 throw new PropertyNotWritableException();
             }
@@ -413,6 +413,37 @@ public class MapELResolver extends ELResolver {
         return null;
     }
 
+    /**
+     * If the base type is a <code>Map</code>, returns an accessor for the
+     * given key of maps of that type.
+     *
+     * @param context The context of this evaluation.
+     * @param baseType The class of the maps.
+     * @param property The key.
+     * @return An accessor for the key.
+     */
+    @Override
+    public PropertyAccessor getAccessor(ELContext context,
+                                        Class<?> baseType,
+                                        Object property) {
+
+        if (baseType == null || !Map.class.isAssignableFrom(baseType)) {
+            return PropertyAccessor.UNRESOLVED;
+        }
+        return new PropertyAccessor.ResolverAccessor(this, property);
+    }
+
+    /**
+     * Returns whether the base type is a <code>Map</code>.
+     *
+     * @param baseType The class of the maps.
+     * @return Whether this resolver handles base objects of the type.
+     */
+    @Override
+    public boolean handlesBaseType(Class<?> baseType) {
+        return baseType != null && Map.class.isAssignableFrom(baseType);
+    }
+
     private boolean isReadOnly;
 }
 
@@ -0,0 +1,150 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package javax.el;
+
+/**
+ * A pre-resolved property of a base type, obtained from
+ * {@link ELResolver#getAccessor}.
+ *
+ * <p>An accessor is created for a (base type, property) pair and behaves
+ * exactly like the <code>ELResolver</code> it was obtained from, called with
+ * the same property: each method sets the <code>propertyResolved</code>
+ * property of the <code>ELContext</code> in the same cases, returns the same
+ * result and throws the same exceptions. The difference is that the work
+ * which only depends on the type and the property, such as introspection or
+ * index conversion, is done once when the accessor is created.</p>
+ *
+ * <p>An accessor may only be used with base objects whose class is the base
+ * type it was obtained for. Accessors are thread-safe, so expression
+ * implementations can cache them, for instance per AST node, and reuse them
+ * for as long as the class of the base object does not change.</p>
+ *
+ * <p>This class is a JBoss extension to the EL API.</p>
+ *
+ * @see ELResolver#getAccessor
+ */
+public abstract class PropertyAccessor {
+
+    /**
+     * Same as {@link ELResolver#getType}, for the property of this accessor.
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object.
+     * @return If the <code>propertyResolved</code> property of
+     *     <code>ELContext</code> was set to <code>true</code>, then
+     *     the most general acceptable type; otherwise undefined.
+     */
+    public abstract Class<?> getType(ELContext context, Object base);
+
+    /**
+     * Same as {@link ELResolver#getValue}, for the property of this accessor.
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object.
+     * @return If the <code>propertyResolved</code> property of
+     *     <code>ELContext</code> was set to <code>true</code>, then
+     *     the value of the property; otherwise undefined.
+     */
+    public abstract Object getValue(ELContext context, Object base);
+
+    /**
+     * Same as {@link ELResolver#setValue}, for the property of this accessor.
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object.
+     * @param value The value to set the property to.
+     */
+    public abstract void setValue(ELContext context, Object base, Object value);
+
+    /**
+     * Same as {@link ELResolver#isReadOnly}, for the property of this
+     * accessor.
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object.
+     * @return If the <code>propertyResolved</code> property of
+     *     <code>ELContext</code> was set to <code>true</code>, then
+     *     <code>true</code> if the property is read-only or
+     *     <code>false</code> if not; otherwise undefined.
+     */
+    public abstract boolean isReadOnly(ELContext context, Object base);
+
+    /*
+     * Accessor for a resolver which never handles the base type; it leaves
+     * propertyResolved alone, just like the resolver would.
+     */
+    static final PropertyAccessor UNRESOLVED = new PropertyAccessor() {
+        @Override
+        public Class<?> getType(ELContext context, Object base) {
+            return null;
+        }
+
+        @Override
+        public Object getValue(ELContext context, Object base) {
+            return null;
+        }
+
+        @Override
+        public void setValue(ELContext context, Object base, Object value) {
+        }
+
+        @Override
+        public boolean isReadOnly(ELContext context, Object base) {
+            return false;
+        }
+    };
+
+    /*
+     * Accessor that simply calls back into a resolver.
+     */
+    static class ResolverAccessor extends PropertyAccessor {
+
+        final ELResolver resolver;
+        final Object property;
+
+        ResolverAccessor(ELResolver resolver, Object property) {
+            this.resolver = resolver;
+            this.property = property;
+        }
+
+        @Override
+        public Class<?> getType(ELContext context, Object base) {
+            return resolver.getType(context, base, property);
+        }
+
+        @Override
+        public Object getValue(ELContext context, Object base) {
+            return resolver.getValue(context, base, property);
+        }
+
+        @Override
+        public void setValue(ELContext context, Object base, Object value) {
+            resolver.setValue(context, base, property, value);
+        }
+
+        @Override
+        public boolean isReadOnly(ELContext context, Object base) {
+            return resolver.isReadOnly(context, base, property);
+        }
+    }
+}
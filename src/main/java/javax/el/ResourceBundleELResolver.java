@@ -325,4 +325,15 @@ public class ResourceBundleELResolver extends ELResolver {
         }
         return null;
     }
+
+    /**
+     * Returns whether the base type is a <code>ResourceBundle</code>.
+     *
+     * @param baseType The class of the bundles.
+     * @return Whether this resolver handles base objects of the type.
+     */
+    @Override
+    public boolean handlesBaseType(Class<?> baseType) {
+        return baseType != null && ResourceBundle.class.isAssignableFrom(baseType);
+    }
 }
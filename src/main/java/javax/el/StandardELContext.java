@@ -117,6 +117,7 @@ public class StandardELContext extends ELContext {
         CompositeELResolver elr = new CompositeELResolver();
         elr.add(new BeanNameELResolver(new LocalBeanNameResolver()));
         customResolvers = new CompositeELResolver();
+        customResolvers.custom = true;
         elr.add(customResolvers);
         elr.add(context.getELResolver());
         elResolver = elr;
@@ -168,10 +169,12 @@ public class StandardELContext extends ELContext {
         if (elResolver == null) {
             CompositeELResolver resolver = new CompositeELResolver();
             customResolvers = new CompositeELResolver();
+            customResolvers.custom = true;
             resolver.add(customResolvers);
             resolver.add(new BeanNameELResolver(new LocalBeanNameResolver()));
             if (streamELResolver != null) {
                 resolver.add(streamELResolver);
+                resolver.streamELResolver = streamELResolver;
             }
             resolver.add(new StaticFieldELResolver());
             resolver.add(new MapELResolver());
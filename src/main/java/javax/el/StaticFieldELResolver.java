@@ -89,6 +89,7 @@ public class StaticFieldELResolver extends ELResolver {
         if (context == null) {
             throw new NullPointerException();
         }
+        property = ELPropertyKey.unwrap(property);
 
         if (base instanceof ELClass && property instanceof String) {
             Class<?> klass = ((ELClass)base).getKlass();
@@ -130,6 +131,7 @@ public class StaticFieldELResolver extends ELResolver {
         if (context == null) {
             throw new NullPointerException();
         }
+        property = ELPropertyKey.unwrap(property);
         if (base instanceof ELClass  && property instanceof String) {
             Class<?> klass = ((ELClass)base).getKlass();
             String fieldName = (String) property;
@@ -238,6 +240,7 @@ public class StaticFieldELResolver extends ELResolver {
         if (context == null) {
             throw new NullPointerException();
         }
+        property = ELPropertyKey.unwrap(property);
 
         if (base instanceof ELClass  && property instanceof String) {
             Class<?> klass = ((ELClass)base).getKlass();
@@ -282,6 +285,7 @@ public class StaticFieldELResolver extends ELResolver {
         if (context == null) {
             throw new NullPointerException();
         }
+        property = ELPropertyKey.unwrap(property);
 
         if (base instanceof ELClass  && property instanceof String) {
             Class<?> klass = ((ELClass)base).getKlass();
@@ -315,4 +319,36 @@ public class StaticFieldELResolver extends ELResolver {
     public Class<?> getCommonPropertyType(ELContext context, Object base) {
         return String.class;
     }
+
+    /**
+     * <p>If the base type is <code>ELClass</code> and the property is a
+     * String, returns an accessor for the named static field.</p>
+     *
+     * @param context The context of this evaluation.
+     * @param baseType The class of the base objects.
+     * @param property A static field name.
+     * @return An accessor for the static field.
+     */
+    @Override
+    public PropertyAccessor getAccessor(ELContext context,
+                                        Class<?> baseType,
+                                        Object property) {
+
+        if (baseType == null || !ELClass.class.isAssignableFrom(baseType)
+                || !(ELPropertyKey.unwrap(property) instanceof String)) {
+            return PropertyAccessor.UNRESOLVED;
+        }
+        return new PropertyAccessor.ResolverAccessor(this, property);
+    }
+
+    /**
+     * Returns whether the base type is <code>ELClass</code>.
+     *
+     * @param baseType The class of the base objects.
+     * @return Whether this resolver handles base objects of the type.
+     */
+    @Override
+    public boolean handlesBaseType(Class<?> baseType) {
+        return baseType != null && ELClass.class.isAssignableFrom(baseType);
+    }
 }
@@ -121,4 +121,31 @@ public abstract class TypeConverter extends ELResolver {
     abstract public Object convertToType(ELContext context,
                                 Object obj,
                                 Class<?> targetType);
+
+    /**
+     * Returns whether this converter may convert objects of the given type
+     * to the given target type.
+     *
+     * <p>Converters that only handle a few (source type, target type) pairs
+     * should override it, so that conversions they never handle do not have
+     * to go through them. The answer is cached per pair of types, so it must
+     * not change over the lifetime of the converter. A default
+     * implementation is provided that returns <code>true</code>.</p>
+     *
+     * <p>This method is a JBoss extension to the EL API.</p>
+     *
+     * @param sourceType The class of the object to convert, or
+     *     <code>null</code> for <code>null</code>.
+     * @param targetType The target type for the conversion.
+     * @return <code>false</code> if {@link #convertToType} never converts
+     *     such objects to the target type, <code>true</code> otherwise.
+     */
+    public boolean canConvert(Class<?> sourceType, Class<?> targetType) {
+        return true;
+    }
+
+    @Override
+    boolean mayConvert(Class<?> sourceType, Class<?> targetType) {
+        return canConvert(sourceType, targetType);
+    }
 }
@@ -22,12 +22,16 @@
 package javax.el;
 
 import java.lang.ref.WeakReference;
-import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -41,6 +45,8 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import org.jboss.el.cache.BeanPropertiesCache;
+
 class Util {
 
     static String message(ELContext context, String name, Object... props) {
@@ -196,26 +202,187 @@ class Util {
             paramTypes = getTypesFromValues(paramValues);
         }
 
-        Method[] methods = clazz.getMethods();
+        MethodCache cache = METHOD_CACHE.get(clazz);
+        MethodSignature signature = new MethodSignature(methodName, paramTypes);
+        Method method = (Method) cache.getResolved(signature);
+        if (method != null) {
+            return method;
+        }
 
-        List<Wrapper> wrappers = Wrapper.wrap(clazz, methods, methodName);
+        List<Wrapper> wrappers = cache.getOverloads(methodName,
+                paramTypes == null ? 0 : paramTypes.length);
 
+        boolean[] coerced = new boolean[1];
         Wrapper result = findWrapper(
-                clazz, wrappers, methodName, paramTypes, paramValues);
+                clazz, wrappers, methodName, paramTypes, paramValues, coerced);
 
         if (result == null) {
             return null;
         }
-        return getMethod(clazz, (Method) result.unWrap());
+        method = getMethod(clazz, (Method) result.unWrap());
+        if (method != null && !coerced[0]) {
+            // the choice only depended on the argument types
+            cache.putResolved(clazz, signature, method);
+        }
+        return method;
+    }
+
+    /*
+     * Public methods and constructors of each class, grouped by name, with
+     * "<init>" for constructors, and number of parameters, along with the
+     * methods and constructors already resolved for a name and argument
+     * types.
+     */
+    private static final ClassValue<MethodCache> METHOD_CACHE =
+            new ClassValue<MethodCache>() {
+        @Override
+        protected MethodCache computeValue(Class<?> type) {
+            return new MethodCache(type);
+        }
+    };
+
+    private static final class MethodCache {
+
+        // bounds the resolutions kept for a class with many overloads
+        private static final int MAX_RESOLVED = 256;
+
+        private final Map<String, List<Wrapper>> overloads;
+        private final ConcurrentMap<MethodSignature, List<Wrapper>> overloadsByArity =
+                new ConcurrentHashMap<>();
+        private final ConcurrentMap<MethodSignature, Executable> resolved =
+                new ConcurrentHashMap<>();
+
+        MethodCache(Class<?> clazz) {
+            overloads = new HashMap<>();
+            for (Method method : clazz.getMethods()) {
+                if (method.isBridge() && !method.getDeclaringClass().equals(clazz)) {
+                    continue;
+                }
+                List<Wrapper> list = overloads.get(method.getName());
+                if (list == null) {
+                    list = new ArrayList<>(1);
+                    overloads.put(method.getName(), list);
+                }
+                list.add(new MethodWrapper(method));
+            }
+            Constructor<?>[] constructors = clazz.getConstructors();
+            if (constructors.length > 0) {
+                List<Wrapper> list = new ArrayList<>(constructors.length);
+                for (Constructor<?> constructor : constructors) {
+                    list.add(new ConstructorWrapper(constructor));
+                }
+                overloads.put("<init>", list);
+            }
+        }
+
+        /*
+         * The methods of the given name that can be called with the given
+         * number of arguments.
+         */
+        List<Wrapper> getOverloads(String name, int paramCount) {
+            List<Wrapper> all = overloads.get(name);
+            if (all == null) {
+                return Collections.emptyList();
+            }
+            MethodSignature key = new MethodSignature(name, paramCount);
+            List<Wrapper> result = overloadsByArity.get(key);
+            if (result == null) {
+                result = new ArrayList<>(all.size());
+                for (Wrapper w : all) {
+                    int mParamCount = w.getParameterTypes().length;
+                    if (paramCount == mParamCount ||
+                            (w.isVarArgs() && paramCount >= mParamCount)) {
+                        result.add(w);
+                    }
+                }
+                overloadsByArity.putIfAbsent(key, result);
+            }
+            return result;
+        }
+
+        Executable getResolved(MethodSignature signature) {
+            return resolved.get(signature);
+        }
+
+        void putResolved(Class<?> clazz, MethodSignature signature, Executable executable) {
+            if (resolved.size() < MAX_RESOLVED && isCacheable(clazz, signature.types)) {
+                resolved.putIfAbsent(signature, executable);
+            }
+        }
+
+        /*
+         * The cache is attached to the class, so it must not refer to
+         * argument types of other class loaders, such as a deployment
+         * calling a method of a shared library.
+         */
+        private static boolean isCacheable(Class<?> clazz, Class<?>[] types) {
+            ClassLoader loader = clazz.getClassLoader();
+            for (Class<?> type : types) {
+                if (type != null && type.getClassLoader() != null &&
+                        type.getClassLoader() != loader) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /*
+     * A method name and either argument types or a number of arguments.
+     */
+    private static final class MethodSignature {
+
+        private static final Class<?>[] NO_TYPES = new Class<?>[0];
+
+        private final String name;
+        private final Class<?>[] types;
+        private final int paramCount;
+        private final int hash;
+
+        MethodSignature(String name, Class<?>[] types) {
+            this.name = name;
+            this.types = types == null ? NO_TYPES : types.clone();
+            this.paramCount = -1;
+            this.hash = name.hashCode() * 31 + Arrays.hashCode(this.types);
+        }
+
+        MethodSignature(String name, int paramCount) {
+            this.name = name;
+            this.types = null;
+            this.paramCount = paramCount;
+            this.hash = name.hashCode() * 31 + paramCount;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MethodSignature)) {
+                return false;
+            }
+            MethodSignature other = (MethodSignature) o;
+            return paramCount == other.paramCount && name.equals(other.name) &&
+                    Arrays.equals(types, other.types);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
     }
 
     /*
      * This method duplicates code in org.apache.el.util.ReflectionUtil. When
      * making changes keep the code in sync.
+     *
+     * Sets coerced[0] if the result depends on the argument values, and
+     * not just on their types.
      */
     @SuppressWarnings("null")
     private static Wrapper findWrapper(Class<?> clazz, List<Wrapper> wrappers,
-            String name, Class<?>[] paramTypes, Object[] paramValues) {
+            String name, Class<?>[] paramTypes, Object[] paramValues,
+            boolean[] coerced) {
 
         Map<Wrapper,MatchResult> candidates = new HashMap<>();
 
@@ -261,6 +428,7 @@ class Util {
                                 noMatch = true;
                                 break;
                             } else {
+                                coerced[0] = true;
                                 if (isCoercibleFrom(paramValues[j], varType)) {
                             	    coercibleMatch++;
                                 } else {
@@ -280,6 +448,7 @@ class Util {
                         noMatch = true;
                         break;
                     } else {
+                        coerced[0] = true;
                         if (isCoercibleFrom(paramValues[i], mParamTypes[i])) {
                             coercibleMatch++;
                         } else {
@@ -498,14 +667,141 @@ class Util {
      * making changes keep the code in sync.
      */
     private static boolean isCoercibleFrom(Object src, Class<?> target) {
-        // TODO: This isn't pretty but it works. Significant refactoring would
-        //       be required to avoid the exception.
-        try {
-            getExpressionFactory().coerceToType(src, target);
-        } catch (ELException e) {
-            return false;
+        return canCoerce(src, target);
+    }
+
+
+    /*
+     * Coercion categories of the rule table below. The target categories
+     * are the same, with NULL unused.
+     */
+    private static final int NULL = 0;
+    private static final int STRING = 1;
+    private static final int BOOLEAN = 2;
+    private static final int CHARACTER = 3;
+    private static final int NUMBER = 4;
+    private static final int ENUM = 5;
+    private static final int OTHER = 6;
+
+    private static final byte NO = 0;
+    private static final byte YES = 1;
+    // depends on the content of the string
+    private static final byte CHECK = 2;
+
+    /*
+     * Whether a value of the source category (rows) can be coerced to the
+     * target category (columns) according to the EL specification, section
+     * 1.23, once the value is known not to be an instance of the target
+     * type.
+     */
+    private static final byte[][] COERCIONS = {
+        // NULL STRING BOOLEAN CHARACTER NUMBER ENUM   OTHER
+        { NO,   YES,   YES,    YES,      YES,   YES,   YES   }, // NULL
+        { NO,   YES,   YES,    YES,      CHECK, CHECK, CHECK }, // STRING
+        { NO,   YES,   YES,    NO,       NO,    NO,    NO    }, // BOOLEAN
+        { NO,   YES,   NO,     YES,      YES,   NO,    NO    }, // CHARACTER
+        { NO,   YES,   NO,     YES,      YES,   NO,    NO    }, // NUMBER
+        { NO,   YES,   NO,     NO,       NO,    NO,    NO    }, // ENUM
+        { NO,   YES,   NO,     NO,       NO,    NO,    NO    }, // OTHER
+    };
+
+    /*
+     * Returns whether the value can be coerced to the target type, without
+     * coercing it. Only strings coerced to numbers or to types other than
+     * the standard ones may have to be tried.
+     */
+    static boolean canCoerce(Object value, Class<?> target) {
+        if (value != null && isAssignableFrom(value.getClass(), target)) {
+            return true;
+        }
+        int targetCategory = category(target);
+        switch (COERCIONS[category(value)][targetCategory]) {
+            case YES:
+                return true;
+            case NO:
+                return false;
+            default:
+                String string = (String) value;
+                if (targetCategory == ENUM) {
+                    // the empty string is coerced to null
+                    return string.isEmpty() || isEnumConstant(string, target);
+                }
+                if (targetCategory == NUMBER) {
+                    if (string.isEmpty()) {
+                        // coerced to zero
+                        return true;
+                    }
+                    if (!isFloatingPoint(target) && !containsDigit(string)) {
+                        // "NaN" and "Infinity" are only numbers for float and double
+                        return false;
+                    }
+                }
+                try {
+                    getExpressionFactory().coerceToType(value, target);
+                } catch (ELException e) {
+                    return false;
+                }
+                return true;
+        }
+    }
+
+    private static int category(Object value) {
+        if (value == null) {
+            return NULL;
+        } else if (value instanceof String) {
+            return STRING;
+        } else if (value instanceof Boolean) {
+            return BOOLEAN;
+        } else if (value instanceof Character) {
+            return CHARACTER;
+        } else if (value instanceof Number) {
+            return NUMBER;
+        } else if (value instanceof Enum) {
+            return ENUM;
+        }
+        return OTHER;
+    }
+
+    private static int category(Class<?> type) {
+        if (type == String.class) {
+            return STRING;
+        } else if (type == Boolean.class || type == Boolean.TYPE) {
+            return BOOLEAN;
+        } else if (type == Character.class || type == Character.TYPE) {
+            return CHARACTER;
+        } else if (type.isPrimitive() || type == Byte.class ||
+                type == Short.class || type == Integer.class ||
+                type == Long.class || type == Float.class ||
+                type == Double.class || type == BigInteger.class ||
+                type == BigDecimal.class) {
+            return NUMBER;
+        } else if (type.isEnum()) {
+            return ENUM;
+        }
+        return OTHER;
+    }
+
+    private static boolean isEnumConstant(String name, Class<?> type) {
+        for (Object constant : type.getEnumConstants()) {
+            if (((Enum<?>) constant).name().equals(name)) {
+                return true;
+            }
         }
-        return true;
+        return false;
+    }
+
+    private static boolean isFloatingPoint(Class<?> type) {
+        return type == Double.class || type == Double.TYPE ||
+                type == Float.class || type == Float.TYPE;
+    }
+
+    private static boolean containsDigit(String string) {
+        for (int i = 0; i < string.length(); i++) {
+            if (Character.isDigit(string.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
 
@@ -527,39 +823,12 @@ class Util {
 
 
     /*
-     * This method duplicates code in org.apache.el.util.ReflectionUtil. When
-     * making changes keep the code in sync.
+     * Returns the version of the method declared by a public class or
+     * interface, or null if there is none. The lookup is cached per class,
+     * since for non-public implementation classes it walks the supertypes.
      */
     static Method getMethod(Class<?> type, Method m) {
-        if (m == null || Modifier.isPublic(type.getModifiers())) {
-            return m;
-        }
-        Class<?>[] inf = type.getInterfaces();
-        Method mp = null;
-        for (int i = 0; i < inf.length; i++) {
-            try {
-                mp = inf[i].getMethod(m.getName(), m.getParameterTypes());
-                mp = getMethod(mp.getDeclaringClass(), mp);
-                if (mp != null) {
-                    return mp;
-                }
-            } catch (NoSuchMethodException e) {
-                // Ignore
-            }
-        }
-        Class<?> sup = type.getSuperclass();
-        if (sup != null) {
-            try {
-                mp = sup.getMethod(m.getName(), m.getParameterTypes());
-                mp = getMethod(mp.getDeclaringClass(), mp);
-                if (mp != null) {
-                    return mp;
-                }
-            } catch (NoSuchMethodException e) {
-                // Ignore
-            }
-        }
-        return null;
+        return BeanPropertiesCache.getMethod(type, m);
     }
 
 
@@ -578,17 +847,28 @@ class Util {
             paramTypes = getTypesFromValues(paramValues);
         }
 
-        Constructor<?>[] constructors = clazz.getConstructors();
+        MethodCache cache = METHOD_CACHE.get(clazz);
+        MethodSignature signature = new MethodSignature(methodName, paramTypes);
+        Constructor<?> constructor = (Constructor<?>) cache.getResolved(signature);
+        if (constructor != null) {
+            return constructor;
+        }
 
-        List<Wrapper> wrappers = Wrapper.wrap(constructors);
+        List<Wrapper> wrappers = cache.getOverloads(methodName,
+                paramTypes == null ? 0 : paramTypes.length);
 
+        boolean[] coerced = new boolean[1];
         Wrapper result = findWrapper(
-                clazz, wrappers, methodName, paramTypes, paramValues);
+                clazz, wrappers, methodName, paramTypes, paramValues, coerced);
 
         if (result == null) {
             return null;
         }
-        return getConstructor(clazz, (Constructor<?>) result.unWrap());
+        constructor = getConstructor(clazz, (Constructor<?>) result.unWrap());
+        if (constructor != null && !coerced[0]) {
+            cache.putResolved(clazz, signature, constructor);
+        }
+        return constructor;
     }
 
 
@@ -613,64 +893,8 @@ class Util {
     }
 
 
-    static Object[] buildParameters(Class<?>[] parameterTypes,
-            boolean isVarArgs,Object[] params) {
-        ExpressionFactory factory = getExpressionFactory();
-        Object[] parameters = null;
-        if (parameterTypes.length > 0) {
-            parameters = new Object[parameterTypes.length];
-            int paramCount = params.length;
-            if (isVarArgs) {
-                int varArgIndex = parameterTypes.length - 1;
-                // First argCount-1 parameters are standard
-                for (int i = 0; (i < varArgIndex); i++) {
-                    parameters[i] = factory.coerceToType(params[i],
-                            parameterTypes[i]);
-                }
-                // Last parameter is the varargs
-                Class<?> varArgClass =
-                    parameterTypes[varArgIndex].getComponentType();
-                final Object varargs = Array.newInstance(
-                    varArgClass,
-                    (paramCount - varArgIndex));
-                for (int i = (varArgIndex); i < paramCount; i++) {
-                    Array.set(varargs, i - varArgIndex,
-                            factory.coerceToType(params[i], varArgClass));
-                }
-                parameters[varArgIndex] = varargs;
-            } else {
-                parameters = new Object[parameterTypes.length];
-                for (int i = 0; i < parameterTypes.length; i++) {
-                    parameters[i] = factory.coerceToType(params[i],
-                            parameterTypes[i]);
-                }
-            }
-        }
-        return parameters;
-    }
-
-
     private abstract static class Wrapper {
 
-        public static List<Wrapper> wrap(Class<?> clazz, Method[] methods, String name) {
-            List<Wrapper> result = new ArrayList<>();
-            for (Method method : methods) {
-                if (method.getName().equals(name)
-                        && !(method.isBridge() && !method.getDeclaringClass().equals(clazz))) {
-                    result.add(new MethodWrapper(method));
-                }
-            }
-            return result;
-        }
-
-        public static List<Wrapper> wrap(Constructor<?>[] constructors) {
-            List<Wrapper> result = new ArrayList<>();
-            for (Constructor<?> constructor : constructors) {
-                result.add(new ConstructorWrapper(constructor));
-            }
-            return result;
-        }
-
         public abstract Object unWrap();
         public abstract Class<?>[] getParameterTypes();
         public abstract boolean isVarArgs();
@@ -680,9 +904,11 @@ class Util {
 
     private static class MethodWrapper extends Wrapper {
         private final Method m;
+        private final Class<?>[] parameterTypes;
 
         public MethodWrapper(Method m) {
             this.m = m;
+            this.parameterTypes = m.getParameterTypes();
         }
 
         @Override
@@ -692,7 +918,7 @@ class Util {
 
         @Override
         public Class<?>[] getParameterTypes() {
-            return m.getParameterTypes();
+            return parameterTypes;
         }
 
         @Override
@@ -708,9 +934,11 @@ class Util {
 
     private static class ConstructorWrapper extends Wrapper {
         private final Constructor<?> c;
+        private final Class<?>[] parameterTypes;
 
         public ConstructorWrapper(Constructor<?> c) {
             this.c = c;
+            this.parameterTypes = c.getParameterTypes();
         }
 
         @Override
@@ -720,7 +948,7 @@ class Util {
 
         @Override
         public Class<?>[] getParameterTypes() {
-            return c.getParameterTypes();
+            return parameterTypes;
         }
 
         @Override
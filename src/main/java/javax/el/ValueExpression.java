@@ -223,4 +223,113 @@ public abstract class ValueExpression
     public ValueReference getValueReference(ELContext context) {
         return null;
     }
+
+    /**
+     * Evaluates the expression relative to the provided context, and
+     * returns the result coerced to <code>boolean</code>.
+     *
+     * <p>A default implementation is provided that coerces the result of
+     * {@link #getValue} with {@link ELContext#convertToType}.
+     * Implementations can override it to read the final property through
+     * {@link ELResolver#getBooleanValue}, which does not box primitive
+     * property values.</p>
+     *
+     * <p>This method is a JBoss extension to the EL API.</p>
+     *
+     * @param context The context of this evaluation.
+     * @return The result of the expression evaluation, coerced to
+     *     <code>boolean</code>.
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws PropertyNotFoundException if one of the property
+     *     resolutions failed because a specified variable or property
+     *     does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing
+     *     property or variable resolution, or if the result cannot be
+     *     coerced to <code>boolean</code>.
+     */
+    public boolean getBoolean(ELContext context) {
+        return (Boolean) context.convertToType(getValue(context),
+                                               boolean.class);
+    }
+
+    /**
+     * Evaluates the expression relative to the provided context, and
+     * returns the result coerced to <code>int</code>.
+     *
+     * <p>A default implementation is provided that coerces the result of
+     * {@link #getValue} with {@link ELContext#convertToType}.
+     * Implementations can override it to read the final property through
+     * {@link ELResolver#getIntValue}, which does not box primitive
+     * property values.</p>
+     *
+     * <p>This method is a JBoss extension to the EL API.</p>
+     *
+     * @param context The context of this evaluation.
+     * @return The result of the expression evaluation, coerced to
+     *     <code>int</code>.
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws PropertyNotFoundException if one of the property
+     *     resolutions failed because a specified variable or property
+     *     does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing
+     *     property or variable resolution, or if the result cannot be
+     *     coerced to <code>int</code>.
+     */
+    public int getInt(ELContext context) {
+        return (Integer) context.convertToType(getValue(context), int.class);
+    }
+
+    /**
+     * Evaluates the expression relative to the provided context, and
+     * returns the result coerced to <code>long</code>.
+     *
+     * <p>A default implementation is provided that coerces the result of
+     * {@link #getValue} with {@link ELContext#convertToType}.
+     * Implementations can override it to read the final property through
+     * {@link ELResolver#getLongValue}, which does not box primitive
+     * property values.</p>
+     *
+     * <p>This method is a JBoss extension to the EL API.</p>
+     *
+     * @param context The context of this evaluation.
+     * @return The result of the expression evaluation, coerced to
+     *     <code>long</code>.
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws PropertyNotFoundException if one of the property
+     *     resolutions failed because a specified variable or property
+     *     does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing
+     *     property or variable resolution, or if the result cannot be
+     *     coerced to <code>long</code>.
+     */
+    public long getLong(ELContext context) {
+        return (Long) context.convertToType(getValue(context), long.class);
+    }
+
+    /**
+     * Evaluates the expression relative to the provided context, and
+     * returns the result coerced to <code>double</code>.
+     *
+     * <p>A default implementation is provided that coerces the result of
+     * {@link #getValue} with {@link ELContext#convertToType}.
+     * Implementations can override it to read the final property through
+     * {@link ELResolver#getDoubleValue}, which does not box primitive
+     * property values.</p>
+     *
+     * <p>This method is a JBoss extension to the EL API.</p>
+     *
+     * @param context The context of this evaluation.
+     * @return The result of the expression evaluation, coerced to
+     *     <code>double</code>.
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws PropertyNotFoundException if one of the property
+     *     resolutions failed because a specified variable or property
+     *     does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing
+     *     property or variable resolution, or if the result cannot be
+     *     coerced to <code>double</code>.
+     */
+    public double getDouble(ELContext context) {
+        return (Double) context.convertToType(getValue(context), double.class);
+    }
 }
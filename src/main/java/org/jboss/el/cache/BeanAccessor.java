@@ -0,0 +1,138 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.el.cache;
+
+/**
+ * Reads and writes the properties of one bean class with plain method calls, without reflection.
+ * <p>
+ * Implementations are normally generated at build time by the {@code jboss-el-processor}
+ * annotation processor and registered in {@code META-INF/services/org.jboss.el.cache.BeanAccessor}.
+ * When one is found for a bean class, {@link BeanPropertiesCache} takes the properties from it
+ * instead of introspecting the class, unless {@code org.jboss.el.cache.useIntrospector} is set.
+ * <p>
+ * Properties are identified by their index in {@link #getPropertyNames()}. The properties must
+ * be the ones the JavaBeans naming rules find in the public methods of the class.
+ */
+public interface BeanAccessor {
+
+    /**
+     * @return The bean class whose properties this accessor handles
+     */
+    Class<?> getBeanClass();
+
+    /**
+     * @return The names of the properties
+     */
+    String[] getPropertyNames();
+
+    /**
+     * @return The types of the properties, in the order of {@link #getPropertyNames()}
+     */
+    Class<?>[] getPropertyTypes();
+
+    /**
+     * @param property The index of the property
+     * @return Whether the property has a read method
+     */
+    boolean isReadable(int property);
+
+    /**
+     * @param property The index of the property
+     * @return Whether the property has a write method
+     */
+    boolean isWritable(int property);
+
+    /**
+     * Calls the read method of a property.
+     *
+     * @param bean The bean, an instance of the bean class
+     * @param property The index of a readable property
+     * @return The value returned by the read method
+     * @throws Throwable anything thrown by the read method
+     */
+    Object getValue(Object bean, int property) throws Throwable;
+
+    /**
+     * Calls the read method of a {@code boolean} property. Generated accessors override it to
+     * avoid boxing the value.
+     *
+     * @param bean The bean, an instance of the bean class
+     * @param property The index of a readable {@code boolean} property
+     * @return The value returned by the read method
+     * @throws Throwable anything thrown by the read method
+     */
+    default boolean getBoolean(Object bean, int property) throws Throwable {
+        return (Boolean) getValue(bean, property);
+    }
+
+    /**
+     * Calls the read method of an {@code int} property. Generated accessors override it to avoid
+     * boxing the value.
+     *
+     * @param bean The bean, an instance of the bean class
+     * @param property The index of a readable {@code int} property
+     * @return The value returned by the read method
+     * @throws Throwable anything thrown by the read method
+     */
+    default int getInt(Object bean, int property) throws Throwable {
+        return (Integer) getValue(bean, property);
+    }
+
+    /**
+     * Calls the read method of a {@code long} property. Generated accessors override it to avoid
+     * boxing the value.
+     *
+     * @param bean The bean, an instance of the bean class
+     * @param property The index of a readable {@code long} property
+     * @return The value returned by the read method
+     * @throws Throwable anything thrown by the read method
+     */
+    default long getLong(Object bean, int property) throws Throwable {
+        return (Long) getValue(bean, property);
+    }
+
+    /**
+     * Calls the read method of a {@code double} property. Generated accessors override it to
+     * avoid boxing the value.
+     *
+     * @param bean The bean, an instance of the bean class
+     * @param property The index of a readable {@code double} property
+     * @return The value returned by the read method
+     * @throws Throwable anything thrown by the read method
+     */
+    default double getDouble(Object bean, int property) throws Throwable {
+        return (Double) getValue(bean, property);
+    }
+
+    /**
+     * Calls the write method of a property.
+     *
+     * @param bean The bean, an instance of the bean class
+     * @param property The index of a writable property
+     * @param value The value, an instance of the boxed property type, or null if the type is not
+     *              primitive
+     * @throws Throwable anything thrown by the write method
+     */
+    void setValue(Object bean, int property, Object value) throws Throwable;
+}
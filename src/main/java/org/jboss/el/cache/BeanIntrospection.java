@@ -0,0 +1,330 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.el.cache;
+
+import java.beans.Introspector;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.jboss.el.cache.BeanPropertiesCache.BeanProperty;
+
+/**
+ * Resolves bean properties with plain reflection, following the same naming rules as
+ * {@link Introspector}: a property {@code foo} is read by {@code isFoo()} (for {@code boolean}
+ * properties) or {@code getFoo()}, and written by {@code void setFoo(T)}, where {@code T} is the
+ * type returned by the read method if there is one.
+ */
+final class BeanIntrospection {
+
+    private static final String GET_PREFIX = "get";
+    private static final String IS_PREFIX = "is";
+    private static final String SET_PREFIX = "set";
+
+    // Class.isRecord() and friends, looked up reflectively as they only exist on Java 16 and later
+    private static final Method IS_RECORD;
+    private static final Method GET_RECORD_COMPONENTS;
+    private static final Method GET_COMPONENT_NAME;
+    private static final Method GET_COMPONENT_ACCESSOR;
+
+    static {
+        Method isRecord = null;
+        Method getRecordComponents = null;
+        Method getComponentName = null;
+        Method getComponentAccessor = null;
+        try {
+            isRecord = Class.class.getMethod("isRecord");
+            getRecordComponents = Class.class.getMethod("getRecordComponents");
+            Class<?> componentType = getRecordComponents.getReturnType().getComponentType();
+            getComponentName = componentType.getMethod("getName");
+            getComponentAccessor = componentType.getMethod("getAccessor");
+        } catch (NoSuchMethodException e) {
+            isRecord = null;
+        }
+        IS_RECORD = isRecord;
+        GET_RECORD_COMPONENTS = getRecordComponents;
+        GET_COMPONENT_NAME = getComponentName;
+        GET_COMPONENT_ACCESSOR = getComponentAccessor;
+    }
+
+    private BeanIntrospection() {
+    }
+
+    /**
+     * Resolves a single property of the given class.
+     *
+     * @param baseClass The bean class
+     * @param property The property name
+     * @return The property, or null if the class has no such property
+     */
+    static BeanProperty findProperty(Class<?> baseClass, String property) {
+        Map<String, Method> accessors = findRecordAccessors(baseClass);
+        if (accessors != null) {
+            Method accessor = accessors.get(property);
+            if (accessor != null) {
+                return recordProperty(baseClass, property, accessor);
+            }
+        }
+        return findProperty(new ClassMethods(baseClass), property);
+    }
+
+    /**
+     * Resolves all properties of the given class from a single {@link Class#getMethods()} call.
+     * The components of a record are properties too, read through their accessor methods; they
+     * take precedence over JavaBeans properties of the same name.
+     *
+     * @param baseClass The bean class
+     * @return The properties by name
+     */
+    static Map<String, BeanProperty> findProperties(Class<?> baseClass) {
+        Map<String, BeanProperty> properties = findBeanProperties(baseClass);
+        addRecordProperties(baseClass, properties);
+        return properties;
+    }
+
+    /**
+     * Adds the components of a record class to its properties, replacing any JavaBeans property of
+     * the same name. Does nothing if the class is not a record.
+     *
+     * @param baseClass The bean class
+     * @param properties The properties by name
+     */
+    static void addRecordProperties(Class<?> baseClass, Map<String, BeanProperty> properties) {
+        Map<String, Method> accessors = findRecordAccessors(baseClass);
+        if (accessors != null) {
+            for (Map.Entry<String, Method> entry : accessors.entrySet()) {
+                properties.put(entry.getKey(), recordProperty(baseClass, entry.getKey(), entry.getValue()));
+            }
+        }
+    }
+
+    /*
+     * Returns the accessor methods of the components of a record class by component name, or
+     * null if the class is not a record.
+     */
+    private static Map<String, Method> findRecordAccessors(Class<?> baseClass) {
+        if (IS_RECORD == null) {
+            return null;
+        }
+        try {
+            if (!(Boolean) IS_RECORD.invoke(baseClass)) {
+                return null;
+            }
+            Object[] components = (Object[]) GET_RECORD_COMPONENTS.invoke(baseClass);
+            Map<String, Method> accessors = new LinkedHashMap<String, Method>();
+            for (Object component : components) {
+                accessors.put((String) GET_COMPONENT_NAME.invoke(component),
+                        (Method) GET_COMPONENT_ACCESSOR.invoke(component));
+            }
+            return accessors;
+        } catch (ReflectiveOperationException e) {
+            // e.g. denied by a security manager; fall back to the JavaBeans rules
+            return null;
+        }
+    }
+
+    private static BeanProperty recordProperty(Class<?> baseClass, String name, Method accessor) {
+        // record components are final, so there is never a write method
+        return new BeanProperty(baseClass, name, accessor.getReturnType(), accessor, null);
+    }
+
+    private static Map<String, BeanProperty> findBeanProperties(Class<?> baseClass) {
+        MethodIndex index = new MethodIndex(baseClass);
+        Map<String, BeanProperty> properties = new HashMap<String, BeanProperty>();
+        for (String name : index.methods.keySet()) {
+            String suffix;
+            if (name.startsWith(GET_PREFIX) || name.startsWith(SET_PREFIX)) {
+                suffix = name.substring(3);
+            } else if (name.startsWith(IS_PREFIX)) {
+                suffix = name.substring(2);
+            } else {
+                continue;
+            }
+            String property = Introspector.decapitalize(suffix);
+            if (property.isEmpty() || properties.containsKey(property)) {
+                continue;
+            }
+            BeanProperty bp = findProperty(index, property);
+            if (bp != null) {
+                properties.put(property, bp);
+            }
+        }
+        return properties;
+    }
+
+    private static BeanProperty findProperty(Methods methods, String property) {
+        if (property.isEmpty()) {
+            return null;
+        }
+        // Introspector.decapitalize maps both "getFoo" and "getfoo" to "foo", and
+        // "getURL" to "URL", so there can be two method name suffixes for one property
+        String capitalized = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        BeanProperty bp = null;
+        if (Introspector.decapitalize(capitalized).equals(property)) {
+            bp = findProperty(methods, property, capitalized);
+        }
+        if (bp == null && !capitalized.equals(property) && Introspector.decapitalize(property).equals(property)) {
+            bp = findProperty(methods, property, property);
+        }
+        return bp;
+    }
+
+    private static BeanProperty findProperty(Methods methods, String property, String suffix) {
+        Method readMethod = methods.find(IS_PREFIX + suffix);
+        if (readMethod == null || readMethod.getReturnType() != boolean.class) {
+            readMethod = methods.find(GET_PREFIX + suffix);
+            if (readMethod != null && readMethod.getReturnType() == void.class) {
+                readMethod = null;
+            }
+        }
+        Method writeMethod;
+        if (readMethod != null) {
+            writeMethod = methods.find(SET_PREFIX + suffix, readMethod.getReturnType());
+        } else {
+            writeMethod = methods.findSetter(SET_PREFIX + suffix);
+        }
+        if (writeMethod != null && writeMethod.getReturnType() != void.class) {
+            writeMethod = null;
+        }
+        if (readMethod == null && writeMethod == null) {
+            return null;
+        }
+        Class<?> type = readMethod != null ? readMethod.getReturnType() : writeMethod.getParameterTypes()[0];
+        return new BeanProperty(methods.baseClass, property, type, readMethod, writeMethod);
+    }
+
+    /*
+     * The public instance methods of a class, as seen by the naming rules above.
+     */
+    private abstract static class Methods {
+
+        final Class<?> baseClass;
+
+        Methods(Class<?> baseClass) {
+            this.baseClass = baseClass;
+        }
+
+        /*
+         * Like Class.getMethod, but ignoring static methods and returning null if there is no match.
+         */
+        abstract Method find(String name, Class<?>... parameterTypes);
+
+        /*
+         * Without a read method there is nothing to match the setter type against, so take the
+         * first single argument setter, preferring a real method over a bridge.
+         */
+        Method findSetter(String name) {
+            Method setter = null;
+            for (Method method : candidates(name)) {
+                if (method.getName().equals(name)
+                        && method.getParameterTypes().length == 1
+                        && method.getReturnType() == void.class
+                        && !Modifier.isStatic(method.getModifiers())
+                        && (setter == null || setter.isBridge())) {
+                    setter = method;
+                }
+            }
+            return setter;
+        }
+
+        abstract Method[] candidates(String name);
+    }
+
+    /*
+     * Looks methods up one at a time, for lazily resolved properties.
+     */
+    private static final class ClassMethods extends Methods {
+
+        ClassMethods(Class<?> baseClass) {
+            super(baseClass);
+        }
+
+        @Override
+        Method find(String name, Class<?>... parameterTypes) {
+            try {
+                Method method = baseClass.getMethod(name, parameterTypes);
+                return Modifier.isStatic(method.getModifiers()) ? null : method;
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+
+        @Override
+        Method[] candidates(String name) {
+            return baseClass.getMethods();
+        }
+    }
+
+    /*
+     * Indexes all public instance methods by name, for resolving every property of a class.
+     */
+    private static final class MethodIndex extends Methods {
+
+        private static final Method[] NO_METHODS = new Method[0];
+
+        final Map<String, Method[]> methods = new LinkedHashMap<String, Method[]>();
+
+        MethodIndex(Class<?> baseClass) {
+            super(baseClass);
+            Map<String, List<Method>> byName = new LinkedHashMap<String, List<Method>>();
+            for (Method method : baseClass.getMethods()) {
+                if (Modifier.isStatic(method.getModifiers())) {
+                    continue;
+                }
+                List<Method> list = byName.get(method.getName());
+                if (list == null) {
+                    list = new ArrayList<Method>(1);
+                    byName.put(method.getName(), list);
+                }
+                list.add(method);
+            }
+            for (Map.Entry<String, List<Method>> entry : byName.entrySet()) {
+                methods.put(entry.getKey(), entry.getValue().toArray(NO_METHODS));
+            }
+        }
+
+        @Override
+        Method find(String name, Class<?>... parameterTypes) {
+            Method found = null;
+            for (Method method : candidates(name)) {
+                if (Arrays.equals(method.getParameterTypes(), parameterTypes)
+                        && (found == null || found.getReturnType().isAssignableFrom(method.getReturnType()))) {
+                    // same choice as Class.getMethod: the most specific return type wins
+                    found = method;
+                }
+            }
+            return found;
+        }
+
+        @Override
+        Method[] candidates(String name) {
+            Method[] candidates = methods.get(name);
+            return candidates == null ? NO_METHODS : candidates;
+        }
+    }
+}
@@ -1,18 +1,36 @@
 package org.jboss.el.cache;
 
 import javax.el.ELException;
+import javax.el.ELPropertyKey;
+import javax.el.ELResolver;
 import java.beans.BeanInfo;
+import java.beans.FeatureDescriptor;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * @author Stuart Douglas
@@ -46,6 +64,10 @@ public class BeanPropertiesCache {
         }
 
         protected void clear(ClassLoader classLoader) {
+            if (map.isEmpty()) {
+                // the usual case, nothing uses this map any more
+                return;
+            }
             Iterator<Map.Entry<Class<?>, BPSoftReference>> it = map.entrySet().iterator();
             while (it.hasNext()) {
                 Map.Entry<Class<?>, BPSoftReference> entry = it.next();
@@ -92,32 +114,280 @@ public class BeanPropertiesCache {
      */
     public final static class BeanProperty {
 
-        private Method readMethod;
-        private Method writeMethod;
+        private volatile Method readMethod;
+        private volatile Method writeMethod;
         private PropertyDescriptor descriptor;
+        private final String name;
+        private final Class<?> propertyType;
+        private final boolean readable;
+        private final boolean writable;
+
+        // (Object)Object and (Object,Object)void adapters for the accessor methods,
+        // null if the method does not exist or cannot be unreflected
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final Class<?> setterType;
+        // (Object)boolean, (Object)int, (Object)long or (Object)double adapter for the read
+        // method of properties of these types, so that their values need not be boxed
+        private final MethodHandle primitiveGetter;
+
+        // only set for properties of classes with a generated accessor, whose methods are only
+        // looked up if someone asks for them
+        private final Class<?> baseClass;
+        private final BeanAccessor accessor;
+        private final int index;
 
         public BeanProperty(Class<?> baseClass,
                             PropertyDescriptor descriptor) {
+            this(baseClass, descriptor.getName(), descriptor.getPropertyType(),
+                    descriptor.getReadMethod(), descriptor.getWriteMethod());
             this.descriptor = descriptor;
-            readMethod = getMethod(baseClass, descriptor.getReadMethod());
-            writeMethod = getMethod(baseClass, descriptor.getWriteMethod());
+        }
+
+        BeanProperty(Class<?> baseClass, String name, Class<?> propertyType,
+                     Method readMethod, Method writeMethod) {
+            this.name = name;
+            this.propertyType = propertyType;
+            this.readMethod = getMethod(baseClass, readMethod);
+            this.writeMethod = getMethod(baseClass, writeMethod);
+            this.readable = this.readMethod != null;
+            this.writable = this.writeMethod != null;
+            getter = unreflect(this.readMethod, GETTER_TYPE);
+            setter = unreflect(this.writeMethod, SETTER_TYPE);
+            primitiveGetter = isPrimitiveReadType(propertyType)
+                    ? unreflect(this.readMethod, MethodType.methodType(propertyType, Object.class))
+                    : null;
+            setterType = this.writeMethod == null ? null : boxedType(this.writeMethod.getParameterTypes()[0]);
+            this.baseClass = null;
+            this.accessor = null;
+            this.index = -1;
+        }
+
+        BeanProperty(BeanAccessor accessor, int index) {
+            this.name = accessor.getPropertyNames()[index];
+            this.propertyType = accessor.getPropertyTypes()[index];
+            this.readable = accessor.isReadable(index);
+            this.writable = accessor.isWritable(index);
+            this.getter = null;
+            this.setter = null;
+            this.primitiveGetter = null;
+            this.setterType = boxedType(propertyType);
+            this.baseClass = accessor.getBeanClass();
+            this.accessor = accessor;
+            this.index = index;
+        }
+
+        public String getName() {
+            return name;
         }
 
         public Class getPropertyType() {
-            return descriptor.getPropertyType();
+            return propertyType;
         }
 
         public boolean isReadOnly() {
-            return getWriteMethod() == null;
+            return !writable;
+        }
+
+        /**
+         * @return Whether the property has a read method
+         */
+        public boolean isReadable() {
+            return readable;
         }
 
         public Method getReadMethod() {
+            if (readMethod == null && accessor != null && readable) {
+                resolveMethods();
+            }
             return readMethod;
         }
 
         public Method getWriteMethod() {
+            if (writeMethod == null && accessor != null && writable) {
+                resolveMethods();
+            }
             return writeMethod;
         }
+
+        private void resolveMethods() {
+            BeanProperty resolved = BeanIntrospection.findProperty(baseClass, name);
+            if (resolved != null) {
+                writeMethod = resolved.writeMethod;
+                readMethod = resolved.readMethod;
+            }
+        }
+
+        /**
+         * Invokes the read method on the given bean. Behaves like
+         * {@code getReadMethod().invoke(base)}, but goes through a method handle when possible.
+         *
+         * @param base The bean
+         * @return The property value
+         * @throws IllegalAccessException if the read method is not accessible
+         * @throws InvocationTargetException if the read method threw an exception
+         */
+        public Object read(Object base) throws IllegalAccessException, InvocationTargetException {
+            if (accessor != null) {
+                try {
+                    return accessor.getValue(base, index);
+                } catch (Throwable t) {
+                    throw new InvocationTargetException(t);
+                }
+            }
+            if (getter == null) {
+                return readMethod.invoke(base);
+            }
+            try {
+                return (Object) getter.invokeExact(base);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        /**
+         * Invokes the read method of a {@code boolean} property on the given bean, without boxing
+         * the value when possible.
+         *
+         * @param base The bean
+         * @return The property value
+         * @throws ClassCastException if the property type is not {@code boolean}
+         * @throws IllegalAccessException if the read method is not accessible
+         * @throws InvocationTargetException if the read method threw an exception
+         */
+        public boolean readBoolean(Object base) throws IllegalAccessException, InvocationTargetException {
+            if (propertyType != boolean.class) {
+                throw new ClassCastException(propertyType.getName());
+            }
+            try {
+                if (accessor != null) {
+                    return accessor.getBoolean(base, index);
+                }
+                if (primitiveGetter != null) {
+                    return (boolean) primitiveGetter.invokeExact(base);
+                }
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+            return (Boolean) read(base);
+        }
+
+        /**
+         * Invokes the read method of an {@code int} property on the given bean, without boxing the
+         * value when possible.
+         *
+         * @param base The bean
+         * @return The property value
+         * @throws ClassCastException if the property type is not {@code int}
+         * @throws IllegalAccessException if the read method is not accessible
+         * @throws InvocationTargetException if the read method threw an exception
+         */
+        public int readInt(Object base) throws IllegalAccessException, InvocationTargetException {
+            if (propertyType != int.class) {
+                throw new ClassCastException(propertyType.getName());
+            }
+            try {
+                if (accessor != null) {
+                    return accessor.getInt(base, index);
+                }
+                if (primitiveGetter != null) {
+                    return (int) primitiveGetter.invokeExact(base);
+                }
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+            return (Integer) read(base);
+        }
+
+        /**
+         * Invokes the read method of a {@code long} property on the given bean, without boxing the
+         * value when possible.
+         *
+         * @param base The bean
+         * @return The property value
+         * @throws ClassCastException if the property type is not {@code long}
+         * @throws IllegalAccessException if the read method is not accessible
+         * @throws InvocationTargetException if the read method threw an exception
+         */
+        public long readLong(Object base) throws IllegalAccessException, InvocationTargetException {
+            if (propertyType != long.class) {
+                throw new ClassCastException(propertyType.getName());
+            }
+            try {
+                if (accessor != null) {
+                    return accessor.getLong(base, index);
+                }
+                if (primitiveGetter != null) {
+                    return (long) primitiveGetter.invokeExact(base);
+                }
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+            return (Long) read(base);
+        }
+
+        /**
+         * Invokes the read method of a {@code double} property on the given bean, without boxing
+         * the value when possible.
+         *
+         * @param base The bean
+         * @return The property value
+         * @throws ClassCastException if the property type is not {@code double}
+         * @throws IllegalAccessException if the read method is not accessible
+         * @throws InvocationTargetException if the read method threw an exception
+         */
+        public double readDouble(Object base) throws IllegalAccessException, InvocationTargetException {
+            if (propertyType != double.class) {
+                throw new ClassCastException(propertyType.getName());
+            }
+            try {
+                if (accessor != null) {
+                    return accessor.getDouble(base, index);
+                }
+                if (primitiveGetter != null) {
+                    return (double) primitiveGetter.invokeExact(base);
+                }
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+            return (Double) read(base);
+        }
+
+        /**
+         * Invokes the write method on the given bean. Behaves like
+         * {@code getWriteMethod().invoke(base, value)}, but goes through a method handle when possible.
+         *
+         * @param base The bean
+         * @param value The new property value
+         * @throws IllegalAccessException if the write method is not accessible
+         * @throws IllegalArgumentException if the value cannot be passed to the write method
+         * @throws InvocationTargetException if the write method threw an exception
+         */
+        public void write(Object base, Object value) throws IllegalAccessException, InvocationTargetException {
+            if (accessor != null) {
+                if (value == null ? propertyType.isPrimitive() : !setterType.isInstance(value)) {
+                    // reflection applies (or rejects) widening and null conversions for us
+                    getWriteMethod().invoke(base, value);
+                    return;
+                }
+                try {
+                    accessor.setValue(base, index, value);
+                } catch (Throwable t) {
+                    throw new InvocationTargetException(t);
+                }
+                return;
+            }
+            if (setter == null || !setterType.isInstance(value)) {
+                // reflection applies (or rejects) widening and null conversions for us
+                writeMethod.invoke(base, value);
+                return;
+            }
+            try {
+                setter.invokeExact(base, value);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
     }
 
     /*
@@ -125,34 +395,297 @@ public class BeanPropertiesCache {
      */
     public final static class BeanProperties {
 
-        private final Map<String, BeanProperty> propertyMap =
-                new HashMap<String, BeanProperty>();
+        private final Map<String, BeanProperty> propertyMap;
+
+        private static final int MAX_UNKNOWN_PROPERTIES = 256;
+
+        // only set in lazy mode
+        private final Class<?> baseClass;
+        private final Set<String> unknownProperties;
+
+        private static final int MAX_TABLE_REBUILDS = 8;
+
+        // eager mode only, built on the first lookup by key and rebuilt for keys created since
+        volatile PropertyTable<BeanProperty> propertyTable;
+        private volatile int tableRebuilds;
+
+        private volatile List<FeatureDescriptor> featureDescriptors;
 
         public BeanProperties(Class<?> baseClass) {
-            PropertyDescriptor[] descriptors;
-            try {
-                BeanInfo info = Introspector.getBeanInfo(baseClass);
-                descriptors = info.getPropertyDescriptors();
-            } catch (IntrospectionException ie) {
-                throw new ELException(ie);
+            this(baseClass, false);
+        }
+
+        /**
+         * Creates the properties for a bean class. Properties are taken from the generated
+         * {@link BeanAccessor} of the class if there is one, and otherwise found from the public
+         * methods of the class with the JavaBeans naming rules. Explicit {@link BeanInfo} classes are only
+         * taken into account if {@code org.jboss.el.cache.useIntrospector} is set, in which case
+         * eagerly created properties come from {@link Introspector}.
+         *
+         * @param baseClass The bean class
+         * @param lazy If true, properties are resolved one at a time when first requested instead
+         *             of introspecting the whole class up front
+         */
+        public BeanProperties(Class<?> baseClass, boolean lazy) {
+            BeanAccessor accessor = USE_INTROSPECTOR ? null : GeneratedAccessors.find(baseClass);
+            if (accessor != null) {
+                // generated at build time, so there is nothing left to introspect
+                this.baseClass = null;
+                this.unknownProperties = null;
+                this.propertyMap = new HashMap<String, BeanProperty>();
+                String[] names = accessor.getPropertyNames();
+                for (int i = 0; i < names.length; i++) {
+                    propertyMap.put(names[i], new BeanProperty(accessor, i));
+                }
+                return;
             }
-            for (PropertyDescriptor pd: descriptors) {
-                propertyMap.put(pd.getName(),
-                        new BeanProperty(baseClass, pd));
+            if (lazy) {
+                this.baseClass = baseClass;
+                this.propertyMap = new ConcurrentHashMap<String, BeanProperty>();
+                this.unknownProperties = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+                return;
+            }
+            this.baseClass = null;
+            this.unknownProperties = null;
+            if (!USE_INTROSPECTOR) {
+                this.propertyMap = BeanIntrospection.findProperties(baseClass);
+            } else {
+                this.propertyMap = new HashMap<String, BeanProperty>();
+                PropertyDescriptor[] descriptors;
+                try {
+                    BeanInfo info = Introspector.getBeanInfo(baseClass);
+                    descriptors = info.getPropertyDescriptors();
+                } catch (IntrospectionException ie) {
+                    throw new ELException(ie);
+                }
+                for (PropertyDescriptor pd: descriptors) {
+                    propertyMap.put(pd.getName(),
+                            new BeanProperty(baseClass, pd));
+                }
+                // Introspector does not know about records
+                BeanIntrospection.addRecordProperties(baseClass, propertyMap);
             }
         }
 
         public BeanProperty getBeanProperty(String property) {
-            return propertyMap.get(property);
+            BeanProperty bp = propertyMap.get(property);
+            if (bp == null && baseClass != null && !unknownProperties.contains(property)) {
+                bp = BeanIntrospection.findProperty(baseClass, property);
+                if (bp == null) {
+                    // names may come from user input, so don't let them grow without bounds
+                    if (unknownProperties.size() < MAX_UNKNOWN_PROPERTIES) {
+                        unknownProperties.add(property);
+                    }
+                } else {
+                    BeanProperty existing = propertyMap.putIfAbsent(property, bp);
+                    if (existing != null) {
+                        bp = existing;
+                    }
+                }
+            }
+            return bp;
+        }
+
+        /**
+         * Looks a property up by its interned key. Once the properties of the class are known,
+         * this is an identity lookup by key id, without hashing or comparing the name. The table
+         * this looks keys up in is built on the first call, from the keys that exist by then, and
+         * rebuilt when a property is found by name because its key was created later. After a few
+         * rebuilds, such keys are only looked up by name.
+         *
+         * @param property The key of the property
+         * @return The property, or null if the class has no such property
+         */
+        public BeanProperty getBeanProperty(ELPropertyKey property) {
+            if (baseClass != null) {
+                return getBeanProperty(property.getName());
+            }
+            PropertyTable<BeanProperty> table = propertyTable;
+            if (table == null) {
+                propertyTable = table = new PropertyTable<BeanProperty>(propertyMap);
+            }
+            BeanProperty bp = table.get(property);
+            if (bp == null) {
+                // the key may have been created after the table
+                bp = propertyMap.get(property.getName());
+                if (bp != null && tableRebuilds < MAX_TABLE_REBUILDS) {
+                    // racing rebuilds are harmless, they only add keys
+                    tableRebuilds++;
+                    propertyTable = new PropertyTable<BeanProperty>(propertyMap);
+                }
+            }
+            return bp;
+        }
+
+        /**
+         * Returns the descriptors of all properties, sorted by name and annotated with the
+         * {@link ELResolver#TYPE} and {@link ELResolver#RESOLVABLE_AT_DESIGN_TIME} attributes
+         * required by {@link ELResolver#getFeatureDescriptors}. The list is built once per class.
+         *
+         * @return An unmodifiable list of property descriptors
+         */
+        public List<FeatureDescriptor> getFeatureDescriptors() {
+            List<FeatureDescriptor> descriptors = featureDescriptors;
+            if (descriptors == null) {
+                featureDescriptors = descriptors = createFeatureDescriptors();
+            }
+            return descriptors;
+        }
+
+        private List<FeatureDescriptor> createFeatureDescriptors() {
+            Map<String, BeanProperty> properties = new TreeMap<String, BeanProperty>(propertyMap);
+            if (baseClass != null) {
+                // lazy mode only knows the properties that have been used so far
+                for (Map.Entry<String, BeanProperty> entry : BeanIntrospection.findProperties(baseClass).entrySet()) {
+                    if (!properties.containsKey(entry.getKey())) {
+                        properties.put(entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+            List<FeatureDescriptor> descriptors = new ArrayList<FeatureDescriptor>(properties.size());
+            for (BeanProperty bp : properties.values()) {
+                PropertyDescriptor pd = bp.descriptor;
+                if (pd == null) {
+                    try {
+                        pd = new PropertyDescriptor(bp.getName(), bp.getReadMethod(), bp.getWriteMethod());
+                    } catch (IntrospectionException e) {
+                        continue;
+                    }
+                }
+                pd.setValue(ELResolver.TYPE, pd.getPropertyType());
+                pd.setValue(ELResolver.RESOLVABLE_AT_DESIGN_TIME, Boolean.TRUE);
+                descriptors.add(pd);
+            }
+            return Collections.unmodifiableList(descriptors);
         }
     }
 
+    private static final String LAZY_INTROSPECTION_PROPERTY = "org.jboss.el.cache.lazyIntrospection";
+
+    /**
+     * If enabled, bean properties are resolved one at a time on first access, which is cheaper for
+     * classes with many properties of which only a few are used in expressions.
+     */
+    private static final boolean LAZY_INTROSPECTION = AccessController.doPrivileged(
+            (PrivilegedAction<Boolean>) () -> Boolean.getBoolean(LAZY_INTROSPECTION_PROPERTY));
+
+    private static final String USE_INTROSPECTOR_PROPERTY = "org.jboss.el.cache.useIntrospector";
+
+    /**
+     * If enabled, bean properties are obtained from {@link Introspector}, which honours explicit
+     * {@link BeanInfo} classes but is a lot slower than scanning the methods directly.
+     */
+    private static final boolean USE_INTROSPECTOR = AccessController.doPrivileged(
+            (PrivilegedAction<Boolean>) () -> Boolean.getBoolean(USE_INTROSPECTOR_PROPERTY));
+
+    private static final String MAX_SIZE_PROPERTY = "org.jboss.el.cache.maxSize";
+
+    /**
+     * If positive, the maximum number of bean classes whose metadata is kept. Metadata is then
+     * held in a {@link BoundedCache} instead of being attached to the classes, which bounds the
+     * heap used by applications that see many short lived or generated classes.
+     */
+    private static final int MAX_SIZE = AccessController.doPrivileged(
+            (PrivilegedAction<Integer>) () -> Integer.getInteger(MAX_SIZE_PROPERTY, 0));
+
+    private static final String STATISTICS_PROPERTY = "org.jboss.el.cache.statistics";
+
+    /**
+     * If enabled, cache statistics are collected and exposed as a {@link BeanPropertiesCacheMXBean}.
+     */
+    private static final boolean STATISTICS_ENABLED = AccessController.doPrivileged(
+            (PrivilegedAction<Boolean>) () -> Boolean.getBoolean(STATISTICS_PROPERTY));
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /*
+     * Adapts a public accessor method to the given generic type, so the JIT can treat calls through
+     * it like direct calls. Returns null if no handle can be created, in which case callers fall
+     * back to reflection.
+     */
+    static MethodHandle unreflect(Method method, MethodType type) {
+        if (method == null) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(type);
+        } catch (IllegalAccessException e) {
+            return null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean isPrimitiveReadType(Class<?> type) {
+        return type == boolean.class || type == int.class || type == long.class || type == double.class;
+    }
+
+    /**
+     * Returns the wrapper class of a primitive type, {@link Void} for {@code void}, or the type
+     * itself if it is not primitive.
+     *
+     * @param type The type
+     * @return The boxed type
+     */
+    public static Class<?> boxedType(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        } else if (type == Boolean.TYPE) {
+            return Boolean.class;
+        } else if (type == Character.TYPE) {
+            return Character.class;
+        } else if (type == Byte.TYPE) {
+            return Byte.class;
+        } else if (type == Short.TYPE) {
+            return Short.class;
+        } else if (type == Integer.TYPE) {
+            return Integer.class;
+        } else if (type == Long.TYPE) {
+            return Long.class;
+        } else if (type == Float.TYPE) {
+            return Float.class;
+        } else if (type == Double.TYPE) {
+            return Double.class;
+        }
+        return Void.class;
+    }
+
     /**
      * sfot references are horrible
+     *
+     * @deprecated only kept for callers of {@link #getProperties()}, bean metadata is now stored in
+     *             {@link #BEAN_PROPERTIES}
      */
+    @Deprecated
     private static final SoftConcurrentHashMap properties =
             new SoftConcurrentHashMap();
 
+    /**
+     * Bean metadata, attached directly to the bean class. Lookups are lock free, and the entry goes
+     * away together with the class when its class loader is unloaded, so nothing has to be cleaned
+     * up or re-introspected after a GC.
+     */
+    private static final ClassValue<BeanProperties> BEAN_PROPERTIES = new ClassValue<BeanProperties>() {
+        @Override
+        protected BeanProperties computeValue(Class<?> type) {
+            return introspect(type);
+        }
+    };
+
+    /**
+     * Bean metadata when {@code org.jboss.el.cache.maxSize} is set, null otherwise. Entries are
+     * partitioned by class loader, so that undeploying only touches the classes of the deployment.
+     */
+    private static final BoundedCache<Class<?>, BeanProperties> BOUNDED_BEAN_PROPERTIES =
+            MAX_SIZE > 0 ? new BoundedCache<Class<?>, BeanProperties>(MAX_SIZE, Class::getClassLoader) : null;
+
+    /**
+     * Cache statistics when {@code org.jboss.el.cache.statistics} is set, null otherwise.
+     */
+    private static final BeanPropertiesCacheStatistics STATISTICS =
+            STATISTICS_ENABLED ? BeanPropertiesCacheStatistics.register(BOUNDED_BEAN_PROPERTIES) : null;
+
 
     /*
      * Get a public method form a public class or interface of a given method.
@@ -171,6 +704,25 @@ public class BeanPropertiesCache {
         if (Modifier.isPublic(cl.getModifiers())) {
             return method;
         }
+        // the walk below throws and swallows exceptions, so only do it once per method
+        Map<Method, Optional<Method>> publicMethods = PUBLIC_METHODS.get(cl);
+        Optional<Method> publicMethod = publicMethods.get(method);
+        if (publicMethod == null) {
+            publicMethod = Optional.ofNullable(findPublicMethod(cl, method));
+            publicMethods.putIfAbsent(method, publicMethod);
+        }
+        return publicMethod.orElse(null);
+    }
+
+    private static final ClassValue<Map<Method, Optional<Method>>> PUBLIC_METHODS =
+            new ClassValue<Map<Method, Optional<Method>>>() {
+        @Override
+        protected Map<Method, Optional<Method>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<Method, Optional<Method>>();
+        }
+    };
+
+    private static Method findPublicMethod(Class<?> cl, Method method) {
         Class<?> [] interfaces = cl.getInterfaces ();
         for (int i = 0; i < interfaces.length; i++) {
             Class<?> c = interfaces[i];
@@ -197,11 +749,137 @@ public class BeanPropertiesCache {
         return null;
     }
 
+    /**
+     * Returns the properties of the given bean class, introspecting it on first use.
+     *
+     * @param baseClass The bean class
+     * @return The bean properties
+     * @throws ELException if the class could not be introspected
+     */
+    public static BeanProperties getBeanProperties(Class<?> baseClass) {
+        if (STATISTICS != null) {
+            STATISTICS.lookup();
+        }
+        if (BOUNDED_BEAN_PROPERTIES != null) {
+            return BOUNDED_BEAN_PROPERTIES.computeIfAbsent(baseClass, BeanPropertiesCache::introspect);
+        }
+        return BEAN_PROPERTIES.get(baseClass);
+    }
+
+    /**
+     * Returns the cache statistics, which are only collected if {@code org.jboss.el.cache.statistics}
+     * is set.
+     *
+     * @return The statistics, or null if they are not enabled
+     */
+    public static BeanPropertiesCacheMXBean getStatistics() {
+        return STATISTICS;
+    }
+
+    private static BeanProperties introspect(Class<?> type) {
+        if (STATISTICS == null) {
+            return new BeanProperties(type, LAZY_INTROSPECTION);
+        }
+        STATISTICS.miss();
+        long start = System.nanoTime();
+        BeanProperties properties = new BeanProperties(type, LAZY_INTROSPECTION);
+        STATISTICS.introspected(type, System.nanoTime() - start);
+        return properties;
+    }
+
+    /**
+     * Introspects the given classes in parallel on the common {@link ForkJoinPool}, so that the
+     * first expressions evaluated against them do not pay for it. Meant to be called by the
+     * container at deployment time, for instance right after
+     * {@link FactoryFinderCache#addCacheEntry}.
+     * <p>
+     * Warming up is best effort: classes that cannot be introspected are skipped, and will report
+     * their error when they are first used in an expression. So are classes whose task runs on a
+     * thread that does not allow changing its context class loader.
+     *
+     * @param classLoader The deployment's class loader, set as the thread context class loader
+     *                    while introspecting, may be null
+     * @param classes     The bean classes
+     * @return The task doing the work, which callers may join to wait for its completion
+     */
+    public static ForkJoinTask<Void> preload(final ClassLoader classLoader, final Collection<Class<?>> classes) {
+        final List<ForkJoinTask<?>> tasks = new ArrayList<ForkJoinTask<?>>(classes.size());
+        for (final Class<?> type : classes) {
+            tasks.add(ForkJoinTask.adapt(() -> {
+                preload(classLoader, () -> getBeanProperties(type));
+            }));
+        }
+        return ForkJoinPool.commonPool().submit(() -> {
+            ForkJoinTask.invokeAll(tasks);
+        }, null);
+    }
+
+    /**
+     * Like {@link #preload(ClassLoader, Collection)}, loading the classes by name from the given
+     * class loader. Classes that cannot be loaded are skipped.
+     *
+     * @param classLoader The deployment's class loader
+     * @param classNames  The names of the bean classes
+     * @return The task doing the work, which callers may join to wait for its completion
+     */
+    public static ForkJoinTask<Void> preloadClassNames(final ClassLoader classLoader, final Collection<String> classNames) {
+        final List<ForkJoinTask<?>> tasks = new ArrayList<ForkJoinTask<?>>(classNames.size());
+        for (final String className : classNames) {
+            tasks.add(ForkJoinTask.adapt(() -> {
+                preload(classLoader, () -> {
+                    try {
+                        getBeanProperties(Class.forName(className, false, classLoader));
+                    } catch (ClassNotFoundException | LinkageError e) {
+                        // not ours to report, the expression using it will fail on its own
+                    }
+                });
+            }));
+        }
+        return ForkJoinPool.commonPool().submit(() -> {
+            ForkJoinTask.invokeAll(tasks);
+        }, null);
+    }
+
+    private static void preload(final ClassLoader classLoader, final Runnable task) {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader previous;
+        try {
+            previous = setContextClassLoader(thread, classLoader);
+        } catch (SecurityException e) {
+            // a pool thread which does not let its context class loader change, skipped as well
+            return;
+        }
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            // skipped, see preload
+        } finally {
+            setContextClassLoader(thread, previous);
+        }
+    }
+
+    private static ClassLoader setContextClassLoader(final Thread thread, final ClassLoader classLoader) {
+        return AccessController.doPrivileged((PrivilegedAction<ClassLoader>) () -> {
+            ClassLoader previous = thread.getContextClassLoader();
+            thread.setContextClassLoader(classLoader);
+            return previous;
+        });
+    }
+
+    /**
+     * @deprecated use {@link #getBeanProperties(Class)}, this map is no longer populated by
+     *             {@link javax.el.BeanELResolver}
+     */
+    @Deprecated
     public static SoftConcurrentHashMap getProperties() {
         return properties;
     }
 
     static void clear(ClassLoader classLoader) {
+        // entries in BEAN_PROPERTIES are released together with the classes of the class loader
         properties.clear(classLoader);
+        if (BOUNDED_BEAN_PROPERTIES != null) {
+            BOUNDED_BEAN_PROPERTIES.removePartition(classLoader);
+        }
     }
 }
@@ -0,0 +1,84 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.el.cache;
+
+import java.util.Map;
+
+/**
+ * Management interface of the {@link BeanPropertiesCache} statistics, registered as
+ * {@value #OBJECT_NAME} when {@code org.jboss.el.cache.statistics} is set.
+ */
+public interface BeanPropertiesCacheMXBean {
+
+    /**
+     * The name the statistics are registered under in the platform MBean server.
+     */
+    String OBJECT_NAME = "org.jboss.el:type=BeanPropertiesCache";
+
+    /**
+     * @return The number of bean classes whose metadata is currently cached
+     */
+    long getEntryCount();
+
+    /**
+     * @return The number of lookups answered from the cache
+     */
+    long getHitCount();
+
+    /**
+     * @return The number of lookups that had to introspect the bean class
+     */
+    long getMissCount();
+
+    /**
+     * @return The number of bean classes introspected, a class being counted again each time its
+     *         metadata has to be rebuilt
+     */
+    long getIntrospectionCount();
+
+    /**
+     * @return The total time spent introspecting bean classes, in milliseconds
+     */
+    long getIntrospectionTime();
+
+    /**
+     * @return The number of entries released because their bean class was garbage collected
+     */
+    long getGarbageCollectedCount();
+
+    /**
+     * @return The number of entries evicted to honour {@code org.jboss.el.cache.maxSize}
+     */
+    long getEvictionCount();
+
+    /**
+     * @return The number of cached bean classes, by the class loader that defined them
+     */
+    Map<String, Long> getEntryCountByClassLoader();
+
+    /**
+     * Resets the hit, miss, introspection, garbage collection and eviction counters.
+     */
+    void resetStatistics();
+}
@@ -0,0 +1,216 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.el.cache;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters behind {@link BeanPropertiesCacheMXBean}. Only created when statistics are enabled, so
+ * that the cache pays nothing for them otherwise.
+ * <p>
+ * Metadata attached to the classes themselves goes away silently when a class is unloaded, so
+ * every cached class is also tracked through a weak reference, which is what the entry count,
+ * the per class loader breakdown and the garbage collection count are computed from. In bounded
+ * mode the cache itself is the source of truth.
+ */
+final class BeanPropertiesCacheStatistics implements BeanPropertiesCacheMXBean {
+
+    private static final String BOOTSTRAP = "bootstrap";
+
+    private final BoundedCache<Class<?>, ?> boundedCache;
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder introspections = new LongAdder();
+    private final LongAdder introspectionNanos = new LongAdder();
+    private final LongAdder collected = new LongAdder();
+    private volatile long evictionBase;
+
+    private final Set<ClassReference> classes = ConcurrentHashMap.newKeySet();
+    private final ReferenceQueue<Class<?>> queue = new ReferenceQueue<Class<?>>();
+
+    BeanPropertiesCacheStatistics(BoundedCache<Class<?>, ?> boundedCache) {
+        this.boundedCache = boundedCache;
+    }
+
+    /**
+     * Creates the statistics and registers them in the platform MBean server.
+     */
+    static BeanPropertiesCacheStatistics register(BoundedCache<Class<?>, ?> boundedCache) {
+        BeanPropertiesCacheStatistics statistics = new BeanPropertiesCacheStatistics(boundedCache);
+        ManagementSupport.register(statistics, OBJECT_NAME);
+        return statistics;
+    }
+
+    void lookup() {
+        lookups.increment();
+    }
+
+    void miss() {
+        misses.increment();
+    }
+
+    /**
+     * Records the introspection of a class that is about to be cached.
+     *
+     * @param type The bean class
+     * @param nanos The time it took
+     */
+    void introspected(Class<?> type, long nanos) {
+        introspections.increment();
+        introspectionNanos.add(nanos);
+        if (boundedCache == null) {
+            expunge();
+            classes.add(new ClassReference(type, queue));
+        }
+    }
+
+    private void expunge() {
+        ClassReference ref;
+        while ((ref = (ClassReference) queue.poll()) != null) {
+            if (classes.remove(ref)) {
+                collected.increment();
+            }
+        }
+    }
+
+    @Override
+    public long getEntryCount() {
+        if (boundedCache != null) {
+            return boundedCache.size();
+        }
+        expunge();
+        return classes.size();
+    }
+
+    @Override
+    public long getHitCount() {
+        // a lookup racing with the introspection of the same class may count as a miss without
+        // having been counted as a lookup yet
+        return Math.max(0, lookups.sum() - misses.sum());
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getIntrospectionCount() {
+        return introspections.sum();
+    }
+
+    @Override
+    public long getIntrospectionTime() {
+        return TimeUnit.NANOSECONDS.toMillis(introspectionNanos.sum());
+    }
+
+    @Override
+    public long getGarbageCollectedCount() {
+        expunge();
+        return collected.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return boundedCache == null ? 0 : boundedCache.evictionCount() - evictionBase;
+    }
+
+    @Override
+    public Map<String, Long> getEntryCountByClassLoader() {
+        Map<String, Long> counts = new TreeMap<String, Long>();
+        if (boundedCache != null) {
+            for (Class<?> type : boundedCache.keySet()) {
+                counts.merge(name(type.getClassLoader()), 1L, Long::sum);
+            }
+        } else {
+            expunge();
+            for (ClassReference ref : classes) {
+                if (ref.get() != null) {
+                    counts.merge(ref.loaderName, 1L, Long::sum);
+                }
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public void resetStatistics() {
+        lookups.reset();
+        misses.reset();
+        introspections.reset();
+        introspectionNanos.reset();
+        collected.reset();
+        if (boundedCache != null) {
+            evictionBase = boundedCache.evictionCount();
+        }
+    }
+
+    /*
+     * Like the default Object.toString, as the toString of class loaders may not tell them apart.
+     */
+    private static String name(ClassLoader loader) {
+        return loader == null ? BOOTSTRAP
+                : loader.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(loader));
+    }
+
+    /*
+     * Equal to the references to the same class, as a class may be introspected twice by racing
+     * threads. Does not hold on to the class loader, only to its name.
+     */
+    private static final class ClassReference extends WeakReference<Class<?>> {
+
+        final String loaderName;
+        private final int hash;
+
+        ClassReference(Class<?> type, ReferenceQueue<Class<?>> queue) {
+            super(type, queue);
+            this.loaderName = name(type.getClassLoader());
+            this.hash = System.identityHashCode(type);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ClassReference)) {
+                return false;
+            }
+            Class<?> type = get();
+            return type != null && type == ((ClassReference) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
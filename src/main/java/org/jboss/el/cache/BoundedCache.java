@@ -0,0 +1,388 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.el.cache;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A size bounded cache with W-TinyLFU eviction.
+ * <p>
+ * New entries go to a small LRU admission window. Entries leaving the window compete with the
+ * least recently used entry of the main space, a segmented LRU, and the one that was used less
+ * often recently, according to a count-min frequency sketch, is evicted. This keeps entries which
+ * are used over and over, such as the metadata of common bean classes, even when many classes are
+ * seen once.
+ * <p>
+ * Reads are lock free. Accesses are recorded when the policy lock is free and dropped otherwise,
+ * which only makes the policy slightly less precise under contention. Values are computed outside
+ * the lock, so two threads may compute the same value; only one of them is kept.
+ * <p>
+ * Entries may be grouped into partitions, for instance by class loader, so that all the entries
+ * of a partition can be dropped without looking at the others.
+ */
+final class BoundedCache<K, V> {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    private static final int REMOVED = 3;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<K, Node<K, V>>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final FrequencySketch sketch;
+
+    private final Node<K, V> window = new Node<K, V>(null, null);
+    private final Node<K, V> probation = new Node<K, V>(null, null);
+    private final Node<K, V> protectedSpace = new Node<K, V>(null, null);
+
+    private final Function<? super K, ?> partitioner;
+    // keys by partition, only accessed under the lock
+    private final Map<Object, Set<K>> partitions = new IdentityHashMap<Object, Set<K>>();
+
+    private final int maximumSize;
+    private final int maximumWindowSize;
+    private final int maximumProtectedSize;
+    private int windowSize;
+    private int probationSize;
+    private int protectedSize;
+    // only written under the lock
+    private volatile long evictionCount;
+
+    /**
+     * @param maximumSize The maximum number of entries, at least 1
+     */
+    BoundedCache(int maximumSize) {
+        this(maximumSize, null);
+    }
+
+    /**
+     * @param maximumSize The maximum number of entries, at least 1
+     * @param partitioner Returns the partition of a key, compared by identity, may be null
+     */
+    BoundedCache(int maximumSize, Function<? super K, ?> partitioner) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.maximumWindowSize = Math.max(1, maximumSize / 100);
+        this.maximumProtectedSize = (maximumSize - maximumWindowSize) * 4 / 5;
+        this.sketch = new FrequencySketch(maximumSize);
+        this.partitioner = partitioner;
+    }
+
+    V get(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (lock.tryLock()) {
+            try {
+                onAccess(node);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return node.value;
+    }
+
+    V computeIfAbsent(K key, Function<? super K, ? extends V> function) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        value = function.apply(key);
+        Node<K, V> node = new Node<K, V>(key, value);
+        lock.lock();
+        try {
+            Node<K, V> existing = data.putIfAbsent(key, node);
+            if (existing != null) {
+                onAccess(existing);
+                return existing.value;
+            }
+            sketch.increment(key);
+            if (partitioner != null) {
+                Object partition = partitioner.apply(key);
+                Set<K> keys = partitions.get(partition);
+                if (keys == null) {
+                    keys = new HashSet<K>();
+                    partitions.put(partition, keys);
+                }
+                keys.add(key);
+            }
+            node.queue = WINDOW;
+            append(window, node);
+            windowSize++;
+            evict();
+        } finally {
+            lock.unlock();
+        }
+        return value;
+    }
+
+    void removeIf(Predicate<? super K> predicate) {
+        lock.lock();
+        try {
+            Iterator<Node<K, V>> it = data.values().iterator();
+            while (it.hasNext()) {
+                Node<K, V> node = it.next();
+                if (predicate.test(node.key)) {
+                    it.remove();
+                    unlink(node);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+     * Removes all the entries of a partition, in time proportional to its size.
+     */
+    void removePartition(Object partition) {
+        lock.lock();
+        try {
+            Set<K> keys = partitions.remove(partition);
+            if (keys != null) {
+                for (K key : keys) {
+                    Node<K, V> node = data.remove(key);
+                    if (node != null) {
+                        unlink(node);
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        return data.size();
+    }
+
+    /*
+     * A live view of the keys, for statistics.
+     */
+    Set<K> keySet() {
+        return Collections.unmodifiableSet(data.keySet());
+    }
+
+    /*
+     * The number of entries evicted to stay within the maximum size so far.
+     */
+    long evictionCount() {
+        return evictionCount;
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (node.queue == REMOVED) {
+            return;
+        }
+        sketch.increment(node.key);
+        if (node.queue == PROBATION) {
+            // a second hit while on probation promotes the entry
+            detach(node);
+            probationSize--;
+            node.queue = PROTECTED;
+            append(protectedSpace, node);
+            protectedSize++;
+            if (protectedSize > maximumProtectedSize) {
+                Node<K, V> demoted = protectedSpace.next;
+                detach(demoted);
+                protectedSize--;
+                demoted.queue = PROBATION;
+                append(probation, demoted);
+                probationSize++;
+            }
+        } else {
+            detach(node);
+            append(node.queue == WINDOW ? window : protectedSpace, node);
+        }
+    }
+
+    private void evict() {
+        while (windowSize > maximumWindowSize) {
+            Node<K, V> node = window.next;
+            detach(node);
+            windowSize--;
+            node.queue = PROBATION;
+            append(probation, node);
+            probationSize++;
+        }
+        while (windowSize + probationSize + protectedSize > maximumSize) {
+            Node<K, V> victim;
+            if (probationSize > 1) {
+                // the entry that just left the window against the least recently used one
+                Node<K, V> candidate = probation.prev;
+                Node<K, V> lru = probation.next;
+                victim = sketch.frequency(candidate.key) > sketch.frequency(lru.key) ? lru : candidate;
+            } else if (probationSize == 1) {
+                victim = probation.next;
+            } else if (protectedSize > 0) {
+                victim = protectedSpace.next;
+            } else {
+                victim = window.next;
+            }
+            data.remove(victim.key, victim);
+            unlink(victim);
+            evictionCount++;
+        }
+    }
+
+    private void unlink(Node<K, V> node) {
+        switch (node.queue) {
+            case WINDOW:
+                windowSize--;
+                break;
+            case PROBATION:
+                probationSize--;
+                break;
+            case PROTECTED:
+                protectedSize--;
+                break;
+            default:
+                return;
+        }
+        detach(node);
+        node.queue = REMOVED;
+        if (partitioner != null) {
+            Object partition = partitioner.apply(node.key);
+            Set<K> keys = partitions.get(partition);
+            if (keys != null && keys.remove(node.key) && keys.isEmpty()) {
+                partitions.remove(partition);
+            }
+        }
+    }
+
+    private static <K, V> void append(Node<K, V> head, Node<K, V> node) {
+        node.prev = head.prev;
+        node.next = head;
+        head.prev.next = node;
+        head.prev = node;
+    }
+
+    private static <K, V> void detach(Node<K, V> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+    }
+
+    /*
+     * An entry, linked into one of the circular LRU lists, whose head is a sentinel node. Links
+     * and queue are only accessed under the lock.
+     */
+    private static final class Node<K, V> {
+        final K key;
+        final V value;
+        Node<K, V> prev = this;
+        Node<K, V> next = this;
+        int queue = REMOVED;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /*
+     * A count-min sketch of 4-bit counters, four per key, sixteen per long. All counters are
+     * halved once the number of increments reaches ten times the cache size, so that the
+     * frequencies reflect recent use.
+     */
+    private static final class FrequencySketch {
+
+        private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int maximumSize) {
+            int size = Integer.highestOneBit(Math.max(16, Math.min(maximumSize, 1 << 24)) - 1) << 1;
+            this.table = new long[size];
+            this.tableMask = size - 1;
+            this.sampleSize = (int) Math.min(10L * maximumSize, Integer.MAX_VALUE);
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                long h = hash(hash, i);
+                int count = (int) ((table[index(h)] >>> offset(h)) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                long h = hash(hash, i);
+                int index = index(h);
+                int offset = offset(h);
+                if (((table[index] >>> offset) & 0xfL) != 0xfL) {
+                    table[index] += 1L << offset;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] = (table[i] >>> 1) & RESET_MASK;
+                }
+                additions /= 2;
+            }
+        }
+
+        private static int spread(int hash) {
+            hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+            return (hash >>> 16) ^ hash;
+        }
+
+        private static long hash(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            return h + (h >>> 32);
+        }
+
+        private int index(long h) {
+            return (int) h & tableMask;
+        }
+
+        private static int offset(long h) {
+            return ((int) (h >>> 40) & 15) << 2;
+        }
+    }
+}
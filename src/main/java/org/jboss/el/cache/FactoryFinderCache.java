@@ -25,7 +25,9 @@ package org.jboss.el.cache;
 import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.Iterator;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -34,7 +36,16 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class FactoryFinderCache {
 
-    private static final Map<CacheKey, String> CLASS_CACHE = new ConcurrentHashMap<CacheKey, String>();
+    /**
+     * Factory class names by factory id, partitioned by class loader. The loaders are weakly
+     * referenced, so a partition goes away with its deployment even if it is not cleared, and
+     * clearing a deployment only drops its own partition.
+     */
+    private static final ConcurrentHashMap<Object, Map<String, String>> CLASS_CACHE =
+            new ConcurrentHashMap<Object, Map<String, String>>();
+    private static final ReferenceQueue<ClassLoader> QUEUE = new ReferenceQueue<ClassLoader>();
+    // the partition of the bootstrap/system class loader, passed in as null
+    private static final Map<String, String> NULL_LOADER_CACHE = new ConcurrentHashMap<String, String>();
 
     /**
      * Called by the container at deployment time to set the name of a given factory, to remove the need for the
@@ -46,9 +57,9 @@ public class FactoryFinderCache {
      */
     public static void addCacheEntry(final ClassLoader classLoader, final String factoryId, final String factoryClassName) {
         if (factoryClassName == null) {
-            CLASS_CACHE.put(new CacheKey(classLoader, factoryId), "");
+            partition(classLoader, true).put(factoryId, "");
         } else {
-            CLASS_CACHE.put(new CacheKey(classLoader, factoryId), factoryClassName);
+            partition(classLoader, true).put(factoryId, factoryClassName);
         }
     }
 
@@ -60,20 +71,22 @@ public class FactoryFinderCache {
      */
     public static void clearClassLoader(final ClassLoader classLoader) {
         BeanPropertiesCache.clear(classLoader);
-        final Iterator<Map.Entry<CacheKey, String>> it = CLASS_CACHE.entrySet().iterator();
-        while (it.hasNext()) {
-            final CacheKey key = it.next().getKey();
-            if (key.loader == classLoader) {
-                it.remove();
-            }
+        if (classLoader != null && classLoader == FactoryFinderCache.class.getClassLoader()) {
+            // this library is part of the deployment going away
+            ManagementSupport.unregisterAll();
+        }
+        if (classLoader == null) {
+            NULL_LOADER_CACHE.clear();
+        } else {
+            CLASS_CACHE.remove(new LookupKey(classLoader));
         }
     }
 
     public static String loadImplementationClassName(final String factoryId, final ClassLoader classLoader) {
 
-        final Map<CacheKey, String> classCache = CLASS_CACHE;
+        final Map<String, String> classCache = partition(classLoader, false);
         if (classCache != null) {
-            final String value = classCache.get(new CacheKey(classLoader, factoryId));
+            final String value = classCache.get(factoryId);
             if (value != null) {
                 if (value.equals("")) {
                     return null;
@@ -82,6 +95,7 @@ public class FactoryFinderCache {
             }
         }
 
+        final Map<String, String> newCache = classCache != null ? classCache : partition(classLoader, true);
         String serviceId = "META-INF/services/" + factoryId;
         // try to find services in CLASSPATH
         try {
@@ -101,49 +115,84 @@ public class FactoryFinderCache {
 
                 if (factoryClassName != null &&
                         !"".equals(factoryClassName)) {
-                    if (classCache != null) {
-                        classCache.put(new CacheKey(classLoader, factoryId), factoryClassName);
-                    }
+                    newCache.put(factoryId, factoryClassName);
                     return factoryClassName;
                 }
             }
         } catch (Exception ex) {
         }
-        if (classCache != null) {
-            classCache.put(new CacheKey(classLoader, factoryId), "");
-        }
+        newCache.put(factoryId, "");
         return null;
     }
 
-    private static class CacheKey {
-        private final ClassLoader loader;
-        private final String className;
+    private static Map<String, String> partition(final ClassLoader classLoader, final boolean create) {
+        if (classLoader == null) {
+            return NULL_LOADER_CACHE;
+        }
+        Map<String, String> partition = CLASS_CACHE.get(new LookupKey(classLoader));
+        if (partition == null && create) {
+            expungeStaleEntries();
+            partition = new ConcurrentHashMap<String, String>();
+            Map<String, String> existing = CLASS_CACHE.putIfAbsent(new LoaderKey(classLoader, QUEUE), partition);
+            if (existing != null) {
+                partition = existing;
+            }
+        }
+        return partition;
+    }
 
-        private CacheKey(final ClassLoader loader, final String className) {
-            this.loader = loader;
-            this.className = className;
+    private static void expungeStaleEntries() {
+        Reference<? extends ClassLoader> ref;
+        while ((ref = QUEUE.poll()) != null) {
+            CLASS_CACHE.remove(ref);
+        }
+    }
+
+    /*
+     * Key of a partition, compared by loader identity, which does not keep the loader alive.
+     */
+    private static final class LoaderKey extends WeakReference<ClassLoader> {
+        private final int hash;
+
+        private LoaderKey(final ClassLoader loader, final ReferenceQueue<ClassLoader> queue) {
+            super(loader, queue);
+            this.hash = System.identityHashCode(loader);
         }
 
         @Override
         public boolean equals(final Object o) {
             if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
+            if (o instanceof LookupKey) return ((LookupKey) o).loader == get();
+            // once cleared, a key is only equal to itself
+            return o instanceof LoaderKey && get() != null && ((LoaderKey) o).get() == get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 
-            final CacheKey cacheKey = (CacheKey) o;
+    /*
+     * Strongly referenced counterpart of LoaderKey, for lookups.
+     */
+    private static final class LookupKey {
+        private final ClassLoader loader;
 
-            if (className != null ? !className.equals(cacheKey.className) : cacheKey.className != null) return false;
-            if (loader != null ? !loader.equals(cacheKey.loader) : cacheKey.loader != null) return false;
+        private LookupKey(final ClassLoader loader) {
+            this.loader = loader;
+        }
 
-            return true;
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o instanceof LoaderKey) return ((LoaderKey) o).get() == loader;
+            return o instanceof LookupKey && ((LookupKey) o).loader == loader;
         }
 
         @Override
         public int hashCode() {
-            int result = loader != null ? loader.hashCode() : 0;
-            result = 31 * result + (className != null ? className.hashCode() : 0);
-            return result;
+            return System.identityHashCode(loader);
         }
     }
-
-
 }
@@ -0,0 +1,102 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.el.cache;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Finds the {@link BeanAccessor}s registered as services. The service files of a class loader are
+ * read once, when the first class it defines is introspected, and each accessor is attached to its
+ * bean class, so nothing here keeps a class loader alive. Accessors are only used for bean classes
+ * defined by their own class loader, so that a long-lived class never holds on to the accessor,
+ * and with it the class loader, of a deployment.
+ */
+final class GeneratedAccessors {
+
+    private static final ClassValue<AtomicReference<BeanAccessor>> ACCESSORS =
+            new ClassValue<AtomicReference<BeanAccessor>>() {
+        @Override
+        protected AtomicReference<BeanAccessor> computeValue(Class<?> type) {
+            return new AtomicReference<BeanAccessor>();
+        }
+    };
+
+    private static final Set<ClassLoader> SCANNED =
+            Collections.newSetFromMap(new WeakHashMap<ClassLoader, Boolean>());
+
+    private GeneratedAccessors() {
+    }
+
+    /**
+     * @param baseClass The bean class
+     * @return The generated accessor of the class, or null if there is none
+     */
+    static BeanAccessor find(Class<?> baseClass) {
+        ClassLoader classLoader = baseClass.getClassLoader();
+        if (classLoader == null) {
+            return null;
+        }
+        synchronized (SCANNED) {
+            if (SCANNED.add(classLoader)) {
+                scan(classLoader);
+            }
+        }
+        return ACCESSORS.get(baseClass).get();
+    }
+
+    private static boolean hasNext(Iterator<BeanAccessor> it) {
+        try {
+            return it.hasNext();
+        } catch (ServiceConfigurationError e) {
+            // unreadable service files, give up on this class loader
+            return false;
+        }
+    }
+
+    private static void scan(final ClassLoader classLoader) {
+        AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+            Iterator<BeanAccessor> it = ServiceLoader.load(BeanAccessor.class, classLoader).iterator();
+            while (hasNext(it)) {
+                try {
+                    BeanAccessor accessor = it.next();
+                    // an accessor for a class of a parent class loader would pin this one
+                    if (accessor.getClass().getClassLoader() == accessor.getBeanClass().getClassLoader()) {
+                        ACCESSORS.get(accessor.getBeanClass()).compareAndSet(null, accessor);
+                    }
+                } catch (ServiceConfigurationError e) {
+                    // a broken or stale entry, its bean class falls back to introspection
+                }
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.el.cache;
+
+import java.lang.management.ManagementFactory;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registers the management beans of this library in the platform MBean server, so that the
+ * {@code javax.el} classes do not depend on JMX themselves.
+ * <p>
+ * A registered bean keeps the class loader of this library alive, so when the library is part of
+ * a deployment, its beans are unregistered when the container clears the deployment's class loader
+ * through {@link FactoryFinderCache#clearClassLoader}.
+ */
+public final class ManagementSupport {
+
+    // the names this copy of the library registered
+    private static final Set<ObjectName> REGISTERED = ConcurrentHashMap.newKeySet();
+
+    private ManagementSupport() {
+    }
+
+    /**
+     * Registers a management bean. Failing to register, for instance because another copy of this
+     * library already did, only means the bean is not visible over JMX.
+     *
+     * @param bean The management bean
+     * @param name The object name to register it under
+     */
+    public static void register(final Object bean, final String name) {
+        AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+            try {
+                ObjectName objectName = new ObjectName(name);
+                ManagementFactory.getPlatformMBeanServer().registerMBean(bean, objectName);
+                REGISTERED.add(objectName);
+            } catch (JMException | SecurityException e) {
+                // not exposed, but still collected
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Unregisters the management beans registered by this copy of the library.
+     */
+    static void unregisterAll() {
+        AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            for (ObjectName name : REGISTERED) {
+                REGISTERED.remove(name);
+                try {
+                    server.unregisterMBean(name);
+                } catch (JMException | SecurityException e) {
+                    // already gone
+                }
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.el.cache;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import javax.el.ELPropertyKey;
+
+/**
+ * An immutable table from {@link ELPropertyKey} to values, indexed by key id and compared by
+ * identity.
+ * <p>
+ * Only the names that already have a key are in the table; it does not create keys, so callers
+ * have to fall back to looking a missing key up by name, as it may have been created since.
+ * Keys are interned in creation order, so the keys of one class usually have nearby ids. The
+ * table size is chosen as the smallest power of two, within a bound, for which no two keys share
+ * a slot, which makes most lookups a single array access. If there is no such size the table
+ * falls back to linear probing.
+ */
+final class PropertyTable<V> {
+
+    private static final int MAX_SIZE_FACTOR = 8;
+
+    private final ELPropertyKey[] keys;
+    private final Object[] values;
+    private final int mask;
+
+    PropertyTable(Map<String, V> map) {
+        ELPropertyKey[] mapKeys = new ELPropertyKey[map.size()];
+        Object[] mapValues = new Object[map.size()];
+        int n = 0;
+        for (Map.Entry<String, V> entry : map.entrySet()) {
+            ELPropertyKey key = ELPropertyKey.lookup(entry.getKey());
+            if (key != null) {
+                mapKeys[n] = key;
+                mapValues[n++] = entry.getValue();
+            }
+        }
+        if (n < mapKeys.length) {
+            mapKeys = Arrays.copyOf(mapKeys, n);
+        }
+        int minSize = Integer.highestOneBit(Math.max(n, 1) * 2 - 1) << 1;
+        int size = minSize;
+        while (size < minSize * MAX_SIZE_FACTOR && !isPerfect(mapKeys, size - 1)) {
+            size <<= 1;
+        }
+        if (!isPerfect(mapKeys, size - 1)) {
+            size = minSize;
+        }
+        this.mask = size - 1;
+        this.keys = new ELPropertyKey[size];
+        this.values = new Object[size];
+        for (int i = 0; i < n; i++) {
+            int slot = mapKeys[i].getId() & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = mapKeys[i];
+            values[slot] = mapValues[i];
+        }
+    }
+
+    private static boolean isPerfect(ELPropertyKey[] keys, int mask) {
+        boolean[] used = new boolean[mask + 1];
+        for (ELPropertyKey key : keys) {
+            int slot = key.getId() & mask;
+            if (used[slot]) {
+                return false;
+            }
+            used[slot] = true;
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(ELPropertyKey key) {
+        int slot = key.getId() & mask;
+        ELPropertyKey k;
+        while ((k = keys[slot]) != null) {
+            if (k == key) {
+                return (V) values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+}
@@ -23,9 +23,19 @@ package javax.el;
 
 import org.junit.Test;
 
+import java.beans.FeatureDescriptor;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * @author <a href="mailto:cdewolf@redhat.com">Carlo de Wolf</a>
@@ -40,6 +50,226 @@ public class BeanELResolverTestCase {
         }
     }
 
+    public static class Bean {
+        public String getName() {
+            return "bean";
+        }
+
+        public void setCount(int count) {
+        }
+    }
+
+    public static class Overloads {
+        public String describe(Integer value) {
+            return "integer " + value;
+        }
+
+        public String describe(String value) {
+            return "string " + value;
+        }
+
+        public String describe(long value) {
+            return "long " + value;
+        }
+    }
+
+    public static class Counter {
+        public int getCount() {
+            return 3;
+        }
+
+        public boolean isEmpty() {
+            return false;
+        }
+
+        public String getText() {
+            return "12";
+        }
+    }
+
+    public static class Reads {
+        int reads;
+
+        public int getFirst() {
+            return ++reads;
+        }
+
+        public int getSecond() {
+            return ++reads;
+        }
+    }
+
+    /**
+     * Only resolves the first property of a batch.
+     */
+    public static class FirstPropertyResolver extends BeanELResolver {
+        @Override
+        public int getValues(ELContext context, Object base, Object[] properties, Object[] values) {
+            values[0] = getValue(context, base, properties[0]);
+            return 1;
+        }
+    }
+
+    /**
+     * Counts the properties read one at a time and the batches.
+     */
+    public static class CountingResolver extends BeanELResolver {
+        int reads;
+        int batches;
+
+        @Override
+        public Object getValue(ELContext context, Object base, Object property) {
+            reads++;
+            return super.getValue(context, base, property);
+        }
+
+        @Override
+        public int getValues(ELContext context, Object base, Object[] properties, Object[] values) {
+            batches++;
+            return super.getValues(context, base, properties, values);
+        }
+    }
+
+    @Test
+    public void testFeatureDescriptors() {
+        final BeanELResolver resolver = new BeanELResolver();
+        final ELContext context = new StandardELContext(ExpressionFactory.newInstance());
+        final List<FeatureDescriptor> descriptors = new ArrayList<FeatureDescriptor>();
+        final Iterator<FeatureDescriptor> it = resolver.getFeatureDescriptors(context, new Bean());
+        while (it.hasNext()) {
+            descriptors.add(it.next());
+        }
+        assertEquals(3, descriptors.size());
+        assertEquals("class", descriptors.get(0).getName());
+        assertEquals("count", descriptors.get(1).getName());
+        assertEquals(int.class, descriptors.get(1).getValue(ELResolver.TYPE));
+        assertEquals("name", descriptors.get(2).getName());
+        assertEquals(String.class, descriptors.get(2).getValue(ELResolver.TYPE));
+        assertEquals(Boolean.TRUE, descriptors.get(2).getValue(ELResolver.RESOLVABLE_AT_DESIGN_TIME));
+
+        // the descriptors are computed once per class
+        assertSame(descriptors.get(0), resolver.getFeatureDescriptors(context, new Bean()).next());
+        assertNull(resolver.getFeatureDescriptors(context, null));
+    }
+
+    @Test
+    public void testHasProperty() {
+        final BeanELResolver resolver = new BeanELResolver();
+        final ELContext context = new StandardELContext(ExpressionFactory.newInstance());
+        assertTrue(resolver.hasProperty(context, new Bean(), "name"));
+        assertTrue(resolver.hasProperty(context, new Bean(), "count"));
+        assertFalse(resolver.hasProperty(context, new Bean(), "missing"));
+        assertFalse(resolver.hasProperty(context, null, "name"));
+        assertFalse(context.isPropertyResolved());
+    }
+
+    @Test
+    public void testAccessor() {
+        final CompositeELResolver resolver = new CompositeELResolver();
+        resolver.add(new MapELResolver());
+        resolver.add(new BeanELResolver());
+        final ELContext context = new StandardELContext(ExpressionFactory.newInstance());
+        final PropertyAccessor accessor = resolver.getAccessor(context, Bean.class, "name");
+        assertEquals("bean", accessor.getValue(context, new Bean()));
+        assertTrue(context.isPropertyResolved());
+        assertEquals(String.class, accessor.getType(context, new Bean()));
+        assertTrue(accessor.isReadOnly(context, new Bean()));
+        assertSame(PropertyAccessor.UNRESOLVED, new BeanELResolver().getAccessor(context, null, "name"));
+        assertNull(new BeanELResolver().getAccessor(context, Bean.class, "missing"));
+    }
+
+    @Test
+    public void testGetValues() {
+        final ELContext context = new StandardELContext(ExpressionFactory.newInstance());
+        final ELResolver resolver = context.getELResolver();
+        final Object[] values = new Object[2];
+        assertEquals(2, resolver.getValues(context, new Bean(), new Object[] { "name", ELPropertyKey.of("class") }, values));
+        assertTrue(context.isPropertyResolved());
+        assertEquals("bean", values[0]);
+        assertEquals(Bean.class, values[1]);
+        assertEquals(1, resolver.getValues(context, new Bean(), new Object[] { "name", null }, values));
+        assertFalse(context.isPropertyResolved());
+        try {
+            resolver.getValues(context, new Bean(), new Object[] { "name", "missing" }, values);
+            fail();
+        } catch (PropertyNotFoundException expected) {
+        }
+    }
+
+    @Test
+    public void testPartialGetValues() {
+        final ELContext context = new StandardELContext(ExpressionFactory.newInstance());
+        final CompositeELResolver resolver = new CompositeELResolver();
+        resolver.add(new FirstPropertyResolver());
+        final Object[] values = new Object[2];
+        final Reads reads = new Reads();
+        assertEquals(2, resolver.getValues(context, reads, new Object[] { "first", "second" }, values));
+        assertEquals(1, values[0]);
+        assertEquals(2, values[1]);
+        // each getter is called once, the first one by the batch
+        assertEquals(2, reads.reads);
+
+        final Reads stopped = new Reads();
+        assertEquals(1, context.getELResolver().getValues(context, stopped, new Object[] { "first", null }, values));
+        assertEquals(1, stopped.reads);
+    }
+
+    @Test
+    public void testBatchedGetValues() {
+        final ELContext context = new StandardELContext(ExpressionFactory.newInstance());
+        // laid out like the resolver of a StandardELContext
+        final CompositeELResolver resolver = new CompositeELResolver();
+        resolver.add(new CompositeELResolver());
+        final ELResolver stream = new ListELResolver() {
+            @Override
+            public Object getValue(ELContext context, Object base, Object property) {
+                return super.getValue(context, base, property);
+            }
+        };
+        resolver.add(stream);
+        resolver.streamELResolver = stream;
+        final CompositeELResolver standard = new CompositeELResolver();
+        standard.add(new MapELResolver());
+        standard.add(new ListELResolver());
+        resolver.add(standard);
+        final CountingResolver counting = new CountingResolver();
+        resolver.add(counting);
+        final Object[] values = new Object[2];
+        assertEquals(2, resolver.getValues(context, new Bean(), new Object[] { "name", "class" }, values));
+        assertEquals("bean", values[0]);
+        assertEquals(Bean.class, values[1]);
+        // the whole batch reached the bean resolver, nothing was read one at a time
+        assertEquals(1, counting.batches);
+        assertEquals(0, counting.reads);
+
+        // a resolver not known to decline the base ends the batch
+        resolver.streamELResolver = null;
+        assertEquals(2, resolver.getValues(context, new Bean(), new Object[] { "name", "class" }, values));
+        assertEquals(1, counting.batches);
+        assertEquals(2, counting.reads);
+
+        assertNotNull(((CompositeELResolver) context.getELResolver()).streamELResolver);
+    }
+
+    @Test
+    public void testPrimitiveValues() {
+        final ELContext context = new StandardELContext(ExpressionFactory.newInstance());
+        final ELResolver resolver = context.getELResolver();
+        assertEquals(3, resolver.getIntValue(context, new Counter(), "count"));
+        assertTrue(context.isPropertyResolved());
+        assertEquals(3L, resolver.getLongValue(context, new Counter(), "count"));
+        assertEquals(3.0, resolver.getDoubleValue(context, new Counter(), "count"), 0.0);
+        assertFalse(resolver.getBooleanValue(context, new Counter(), "empty"));
+        // not a primitive property, coerced like any other value
+        assertEquals(12, resolver.getIntValue(context, new Counter(), "text"));
+        assertTrue(context.isPropertyResolved());
+        try {
+            resolver.getIntValue(context, new Bean(), "count");
+            fail();
+        } catch (PropertyNotFoundException expected) {
+        }
+    }
+
     @Test
     public void testVarArgs() {
         final BeanELResolver resolver = new BeanELResolver();
@@ -64,6 +294,21 @@ public class BeanELResolverTestCase {
         assertEquals("Hello prefix: [testVarArgs2]", result);
     }
     
+    @Test
+    public void testOverloads() {
+        final BeanELResolver resolver = new BeanELResolver();
+        final ELContext context = new StandardELContext(ExpressionFactory.newInstance());
+        final Overloads base = new Overloads();
+        for (int i = 0; i < 2; i++) {
+            assertEquals("string a", resolver.invoke(context, base, "describe", null, new Object[] { "a" }));
+            assertEquals("integer 1", resolver.invoke(context, base, "describe", null, new Object[] { 1 }));
+            assertEquals("long 2", resolver.invoke(context, base, "describe", null, new Object[] { 2L }));
+        }
+        // resolved once, then looked up
+        assertSame(Util.findMethod(Overloads.class, "describe", null, new Object[] { "b" }),
+                Util.findMethod(Overloads.class, "describe", null, new Object[] { "c" }));
+    }
+
     /**
      * original test from the bugfix
     */
@@ -0,0 +1,170 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright (c) 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package javax.el;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CompositeELResolverTestCase {
+
+    /**
+     * Converts strings to {@link StringBuilder}s, and counts the calls.
+     */
+    public static class StringBuilderConverter extends TypeConverter {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public Object convertToType(ELContext context, Object obj, Class<?> targetType) {
+            calls.incrementAndGet();
+            if (obj instanceof String && targetType == StringBuilder.class) {
+                context.setPropertyResolved(obj, targetType);
+                return new StringBuilder((String) obj);
+            }
+            return null;
+        }
+
+        @Override
+        public boolean canConvert(Class<?> sourceType, Class<?> targetType) {
+            return sourceType == String.class && targetType == StringBuilder.class;
+        }
+    }
+
+    /**
+     * Resolves the "size" of maps, and counts the calls.
+     */
+    public static class MapSizeResolver extends MapELResolver {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public Object getValue(ELContext context, Object base, Object property) {
+            calls.incrementAndGet();
+            if (base instanceof Map && "size".equals(property)) {
+                context.setPropertyResolved(base, property);
+                return ((Map<?, ?>) base).size();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Same as its superclass, but declares the base types it handles.
+     */
+    public static class DeclaredMapSizeResolver extends MapSizeResolver {
+        @Override
+        public boolean handlesBaseType(Class<?> baseType) {
+            return baseType != null && Map.class.isAssignableFrom(baseType);
+        }
+    }
+
+    @Test
+    public void testBaseTypeDispatch() {
+        StandardELContext context = new StandardELContext(ExpressionFactory.newInstance());
+        CompositeELResolver resolver = (CompositeELResolver) context.getELResolver();
+        Assert.assertTrue(new MapELResolver().ignoresBaseType(String.class));
+        Assert.assertFalse(new BeanELResolver().ignoresBaseType(String.class));
+        Assert.assertTrue(new BeanELResolver().ignoresBaseType(null));
+        Assert.assertTrue(resolver.handlesBaseType(null));
+
+        DeclaredMapSizeResolver declared = new DeclaredMapSizeResolver();
+        MapSizeResolver undeclared = new MapSizeResolver();
+        context.addELResolver(declared);
+        context.addELResolver(undeclared);
+        Map<String, String> map = Collections.singletonMap("size", "one");
+        // the custom resolvers come first, so they win over the map resolver
+        Assert.assertEquals(1, resolver.getValue(context, map, "size"));
+        Assert.assertEquals(1, declared.calls.get());
+        Assert.assertEquals(0, undeclared.calls.get());
+
+        Assert.assertEquals(Boolean.FALSE, resolver.getValue(context, "abc", "empty"));
+        // the inherited declaration is not trusted for a resolver overriding getValue
+        Assert.assertEquals(1, declared.calls.get());
+        Assert.assertEquals(1, undeclared.calls.get());
+        Assert.assertFalse(undeclared.ignoresBaseType(String.class));
+        Assert.assertTrue(declared.ignoresBaseType(String.class));
+    }
+
+    @Test
+    public void testProfile() {
+        StandardELContext context = new StandardELContext(ExpressionFactory.newInstance());
+        CompositeELResolverProfile profile = new CompositeELResolverProfile();
+        CompositeELResolver resolver = new CompositeELResolver();
+        CompositeELResolver custom = new CompositeELResolver();
+        custom.custom = true;
+        resolver.profile = profile;
+        custom.profile = profile;
+        MapSizeResolver sizes = new MapSizeResolver();
+        custom.add(sizes);
+        resolver.add(custom);
+        resolver.add(new MapELResolver());
+
+        Map<String, Integer> map = new HashMap<String, Integer>();
+        map.put("one", 1);
+        Assert.assertEquals(1, resolver.getValue(context, map, "size"));
+        Assert.assertEquals(1, resolver.getIntValue(context, map, "one"));
+        Assert.assertTrue(context.isPropertyResolved());
+        Assert.assertNull(resolver.getValue(context, "abc", "length"));
+        Assert.assertFalse(context.isPropertyResolved());
+
+        List<ELResolverStatistics> statistics = profile.getResolverStatistics();
+        Assert.assertEquals(2, statistics.size());
+        for (ELResolverStatistics s : statistics) {
+            if (s.isCustom()) {
+                Assert.assertEquals(MapSizeResolver.class.getName(), s.getResolver());
+                Assert.assertEquals(3, s.getConsultedCount());
+                Assert.assertEquals(1, s.getResolvedCount());
+            } else {
+                Assert.assertEquals(MapELResolver.class.getName(), s.getResolver());
+                // not consulted for the string, nor once the size was resolved
+                Assert.assertEquals(1, s.getConsultedCount());
+                Assert.assertEquals(1, s.getResolvedCount());
+            }
+        }
+        Assert.assertEquals(Arrays.asList(MapSizeResolver.class.getName()), profile.getSuggestedOrder());
+
+        profile.resetStatistics();
+        Assert.assertTrue(profile.getResolverStatistics().isEmpty());
+    }
+
+    @Test
+    public void testConvertToType() {
+        StandardELContext context = new StandardELContext(ExpressionFactory.newInstance());
+        Assert.assertEquals(42, context.convertToType("42", Integer.class));
+        Assert.assertFalse(context.getELResolver().mayConvert(String.class, Integer.class));
+
+        StringBuilderConverter converter = new StringBuilderConverter();
+        context.addELResolver(converter);
+        Assert.assertEquals("abc", context.convertToType("abc", StringBuilder.class).toString());
+        Assert.assertEquals(1, converter.calls.get());
+        // pairs the converter does not declare do not reach it
+        Assert.assertEquals(42, context.convertToType("42", Integer.class));
+        Assert.assertEquals("1", context.convertToType(1, String.class));
+        Assert.assertEquals(1, converter.calls.get());
+        Assert.assertFalse(context.isPropertyResolved());
+    }
+}
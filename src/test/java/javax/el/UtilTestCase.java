@@ -0,0 +1,219 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright (c) 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package javax.el;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class UtilTestCase {
+
+    private static final Object[] VALUES = {
+        null, "", "42", "4.2", "abc", "x", "true", "SECONDS", "1e3", "-", "NaN",
+        "Infinity", "-Infinity", 42, 4.2, 'c', true,
+        TimeUnit.SECONDS, BigDecimal.ONE, new Date(), new Object()
+    };
+
+    private static final Class<?>[] TYPES = {
+        String.class, Object.class, Boolean.class, boolean.class, Character.class, char.class,
+        Byte.class, short.class, int.class, Long.class, float.class, Float.class, double.class,
+        Double.class, BigInteger.class, BigDecimal.class, Number.class, TimeUnit.class, Date.class,
+        Comparable.class
+    };
+
+    @Test
+    public void testCanCoerceMatchesCoerceToType() {
+        ExpressionFactory factory = ExpressionFactory.newInstance();
+        for (Object value : VALUES) {
+            for (Class<?> type : TYPES) {
+                boolean coercible;
+                try {
+                    factory.coerceToType(value, type);
+                    coercible = true;
+                } catch (ELException e) {
+                    coercible = false;
+                }
+                Assert.assertEquals(value + " to " + type.getName(), coercible, Util.canCoerce(value, type));
+            }
+        }
+    }
+
+    public static int sum(String label, int... values) {
+        if (values == null) {
+            return -1;
+        }
+        int sum = 0;
+        for (int value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Test
+    public void testCoercionPlan() throws Exception {
+        Method sum = UtilTestCase.class.getMethod("sum", String.class, int[].class);
+        CoercionPlan plan = CoercionPlan.of(sum);
+        Assert.assertSame(plan, CoercionPlan.of(sum));
+        Object[] parameters = plan.build(null, new Object[] { 1, "2", 3L });
+        Assert.assertEquals("1", parameters[0]);
+        Assert.assertArrayEquals(new int[] { 2, 3 }, (int[]) parameters[1]);
+
+        // an array of the varargs type is passed as is
+        int[] values = { 4 };
+        Assert.assertSame(values, plan.build(null, new Object[] { "label", values })[1]);
+        Assert.assertEquals(0, ((int[]) plan.build(null, new Object[] { "label" })[1]).length);
+
+        ELContext context = new StandardELContext(ExpressionFactory.newInstance());
+        Assert.assertEquals(9, ELUtil.invokeMethod(context, sum, null, new Object[] { "label", 2, "3", 4 }));
+        Assert.assertEquals(4, ELUtil.invokeMethod(context, sum, null, new Object[] { "label", values }));
+        // a single null varargs argument is passed as a null array, as in Java
+        Assert.assertNull(plan.build(context, new Object[] { "label", null })[1]);
+        Assert.assertEquals(-1, ELUtil.invokeMethod(context, sum, null, new Object[] { "label", null }));
+    }
+
+    public static class Point {
+        private final String description;
+
+        public Point(String label) {
+            description = "label " + label;
+        }
+
+        public Point(int x, int y) {
+            description = "int " + x + "," + y;
+        }
+
+        public Point(long x, long y) {
+            description = "long " + x + "," + y;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    @Test
+    public void testConstructorOverloads() {
+        ELContext context = new StandardELContext(ExpressionFactory.newInstance());
+        StaticFieldELResolver resolver = new StaticFieldELResolver();
+        ELClass point = new ELClass(Point.class);
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals("long 1,2", resolver.invoke(context, point, "<init>", null, new Object[] { 1L, 2L }).toString());
+            Assert.assertEquals("int 1,2", resolver.invoke(context, point, "<init>", null, new Object[] { 1, 2 }).toString());
+            Assert.assertEquals("label a", resolver.invoke(context, point, "<init>", null, new Object[] { "a" }).toString());
+            Assert.assertTrue(context.isPropertyResolved());
+        }
+        try {
+            resolver.invoke(context, point, "<init>", null, new Object[0]);
+            Assert.fail();
+        } catch (MethodNotFoundException expected) {
+        }
+    }
+
+    public static class Action {
+        private int calls;
+
+        public void submit() {
+            calls++;
+        }
+
+        public int fail(String message) {
+            throw new IllegalStateException(message);
+        }
+
+        public static String format(double value) {
+            return String.valueOf(value);
+        }
+
+        public void crash() {
+            throw new AssertionError("crash");
+        }
+    }
+
+    public abstract static class Shape {
+        public Shape() {
+        }
+    }
+
+    public static class Broken {
+        public Broken() {
+            throw new AssertionError("broken");
+        }
+    }
+
+    @Test
+    public void testInvokeMethod() throws Exception {
+        ELContext context = new StandardELContext(ExpressionFactory.newInstance());
+        BeanELResolver resolver = new BeanELResolver();
+        Action action = new Action();
+        Assert.assertNull(resolver.invoke(context, action, "submit", null, new Object[0]));
+        Assert.assertNull(resolver.invoke(context, action, "submit", null, new Object[0]));
+        Assert.assertEquals(2, action.calls);
+        try {
+            resolver.invoke(context, action, "fail", null, new Object[] { "boom" });
+            Assert.fail();
+        } catch (ELException expected) {
+            Assert.assertTrue(expected.getCause() instanceof IllegalStateException);
+            Assert.assertEquals("boom", expected.getCause().getMessage());
+        }
+        Assert.assertEquals("1.5", new StaticFieldELResolver().invoke(context, new ELClass(Action.class), "format",
+                null, new Object[] { "1.5" }));
+        try {
+            resolver.invoke(context, action, "crash", null, new Object[0]);
+            Assert.fail();
+        } catch (ELException expected) {
+            // wrapped like reflection wraps errors
+            Assert.assertTrue(expected.getCause() instanceof AssertionError);
+            Assert.assertEquals("crash", expected.getCause().getMessage());
+        }
+        try {
+            ELUtil.invokeMethod(context, Action.class.getMethod("submit"), "not an action", new Object[0]);
+            Assert.fail();
+        } catch (IllegalArgumentException expected) {
+            // reported by reflection
+        }
+    }
+
+    @Test
+    public void testInvokeAbstractConstructor() throws Exception {
+        ELContext context = new StandardELContext(ExpressionFactory.newInstance());
+        try {
+            ELUtil.invokeConstructor(context, Shape.class.getConstructor(), new Object[0]);
+            Assert.fail();
+        } catch (ELException expected) {
+            // same as reflection, which has no cause to report
+            Assert.assertNull(expected.getCause());
+        }
+        try {
+            ELUtil.invokeConstructor(context, Broken.class.getConstructor(), new Object[0]);
+            Assert.fail();
+        } catch (ELException expected) {
+            // wrapped like reflection wraps errors
+            Assert.assertTrue(expected.getCause() instanceof AssertionError);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright (c) 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.el.cache;
+
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import javax.el.ELPropertyKey;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.jboss.el.cache.BeanPropertiesCache.BeanProperties;
+import static org.jboss.el.cache.BeanPropertiesCache.BeanProperty;
+
+public class BeanPropertiesCacheTestCase {
+
+    public static class Person {
+        private String name;
+        private boolean active;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public int getAge() {
+            return 42;
+        }
+
+        public void setAge(int age) {
+            throw new IllegalStateException("age is fixed");
+        }
+    }
+
+    public static class Naming {
+        public String getURL() {
+            return null;
+        }
+
+        public int getxPos() {
+            return 0;
+        }
+
+        public boolean isFlag() {
+            return true;
+        }
+
+        public boolean getFlag() {
+            return false;
+        }
+
+        public Boolean isBoxed() {
+            return null;
+        }
+
+        public void setOnly(String value) {
+        }
+
+        public void setTyped(int value) {
+        }
+
+        public String getTyped() {
+            return null;
+        }
+
+        public static String getStatic() {
+            return null;
+        }
+
+        public Object get() {
+            return null;
+        }
+    }
+
+    @Test
+    public void testReflectionMatchesIntrospector() throws Exception {
+        for (Class<?> type : new Class<?>[] { Person.class, Naming.class, String.class, ArrayList.class }) {
+            BeanProperties eager = new BeanProperties(type, false);
+            BeanProperties lazy = new BeanProperties(type, true);
+            PropertyDescriptor[] descriptors = Introspector.getBeanInfo(type).getPropertyDescriptors();
+            for (PropertyDescriptor pd : descriptors) {
+                for (BeanProperties properties : new BeanProperties[] { eager, lazy }) {
+                    BeanProperty actual = properties.getBeanProperty(pd.getName());
+                    Assert.assertNotNull(pd.getName(), actual);
+                    Assert.assertEquals(pd.getName(), pd.getPropertyType(), actual.getPropertyType());
+                    Assert.assertEquals(pd.getName(), pd.getReadMethod(), actual.getReadMethod());
+                    Assert.assertEquals(pd.getName(), pd.getWriteMethod(), actual.getWriteMethod());
+                    Assert.assertSame(actual, properties.getBeanProperty(pd.getName()));
+                }
+            }
+            for (String unknown : new String[] { "", "unknown", "Url", "XPos", "static", "boxed" }) {
+                Assert.assertNull(unknown, lazy.getBeanProperty(unknown));
+                Assert.assertNull(unknown, eager.getBeanProperty(unknown));
+            }
+        }
+    }
+
+    @Test
+    public void testPropertiesAreCachedPerClass() {
+        BeanProperties properties = BeanPropertiesCache.getBeanProperties(Person.class);
+        Assert.assertSame(properties, BeanPropertiesCache.getBeanProperties(Person.class));
+    }
+
+    @Test
+    public void testBeanProperties() {
+        BeanProperties properties = BeanPropertiesCache.getBeanProperties(Person.class);
+
+        BeanProperty name = properties.getBeanProperty("name");
+        Assert.assertEquals(String.class, name.getPropertyType());
+        Assert.assertFalse(name.isReadOnly());
+
+        BeanProperty active = properties.getBeanProperty("active");
+        Assert.assertEquals(boolean.class, active.getPropertyType());
+        Assert.assertNotNull(active.getReadMethod());
+        Assert.assertTrue(active.isReadOnly());
+
+        Assert.assertFalse(properties.getBeanProperty("age").isReadOnly());
+        Assert.assertNull(properties.getBeanProperty("unknown"));
+    }
+
+    @Test
+    public void testPropertyKeys() {
+        Assert.assertSame(ELPropertyKey.of("name"), ELPropertyKey.of("name"));
+        Assert.assertEquals("name", ELPropertyKey.of("name").toString());
+        // introspection does not create keys
+        new BeanProperties(Naming.class, false).getBeanProperty(ELPropertyKey.of("URL"));
+        Assert.assertNull(ELPropertyKey.lookup("typed"));
+        for (boolean lazy : new boolean[] { false, true }) {
+            BeanProperties properties = new BeanProperties(Naming.class, lazy);
+            // keys created after the first lookup by key are found too
+            for (String name : new String[] { "URL", "xPos", "flag", "missing", "url", "typed" }) {
+                Assert.assertSame(name, properties.getBeanProperty(name),
+                        properties.getBeanProperty(ELPropertyKey.of(name)));
+            }
+        }
+        // the table is rebuilt for keys created after it
+        BeanProperties properties = new BeanProperties(Naming.class, false);
+        properties.getBeanProperty(ELPropertyKey.of("URL"));
+        Assert.assertNull(ELPropertyKey.lookup("only"));
+        ELPropertyKey late = ELPropertyKey.of("only");
+        Assert.assertNull(properties.propertyTable.get(late));
+        Assert.assertNotNull(properties.getBeanProperty(late));
+        Assert.assertSame(properties.getBeanProperty("only"), properties.propertyTable.get(late));
+    }
+
+    @Test
+    public void testGetMethodOfNonPublicClass() throws Exception {
+        Class<?> hidden = Collections.unmodifiableList(new ArrayList<Object>()).getClass();
+        Method size = hidden.getMethod("size");
+        Method publicSize = BeanPropertiesCache.getMethod(hidden, size);
+        Assert.assertTrue(Modifier.isPublic(publicSize.getDeclaringClass().getModifiers()));
+        Assert.assertSame(publicSize, BeanPropertiesCache.getMethod(hidden, size));
+    }
+
+    @Test
+    public void testPreload() {
+        ClassLoader loader = getClass().getClassLoader();
+        BeanPropertiesCache.preload(loader, Collections.<Class<?>>singletonList(Person.class)).join();
+        BeanPropertiesCache.preloadClassNames(loader, Arrays.asList(Naming.class.getName(), "org.example.Missing")).join();
+        Assert.assertNotNull(BeanPropertiesCache.getBeanProperties(Naming.class).getBeanProperty("URL"));
+    }
+
+    @Test
+    public void testReadAndWrite() throws Exception {
+        BeanProperties properties = BeanPropertiesCache.getBeanProperties(Person.class);
+        Person person = new Person();
+
+        properties.getBeanProperty("name").write(person, "Duke");
+        Assert.assertEquals("Duke", person.getName());
+        Assert.assertEquals("Duke", properties.getBeanProperty("name").read(person));
+        Assert.assertEquals(42, properties.getBeanProperty("age").read(person));
+        Assert.assertEquals(Boolean.FALSE, properties.getBeanProperty("active").read(person));
+
+        properties.getBeanProperty("name").write(person, null);
+        Assert.assertNull(person.getName());
+    }
+
+    @Test
+    public void testWriteConversions() throws Exception {
+        BeanProperty age = BeanPropertiesCache.getBeanProperties(Person.class).getBeanProperty("age");
+        try {
+            age.write(new Person(), null);
+            Assert.fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            age.write(new Person(), "42");
+            Assert.fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            age.write(new Person(), 42);
+            Assert.fail();
+        } catch (InvocationTargetException expected) {
+            Assert.assertTrue(expected.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void testStatistics() {
+        BeanPropertiesCacheStatistics statistics = new BeanPropertiesCacheStatistics(null);
+        statistics.lookup();
+        statistics.miss();
+        statistics.introspected(Person.class, 2000000);
+        statistics.lookup();
+        statistics.introspected(Person.class, 1000000);
+        Assert.assertEquals(1, statistics.getHitCount());
+        Assert.assertEquals(1, statistics.getMissCount());
+        Assert.assertEquals(2, statistics.getIntrospectionCount());
+        Assert.assertEquals(3, statistics.getIntrospectionTime());
+        // introspected twice, but cached once
+        Assert.assertEquals(1, statistics.getEntryCount());
+        Assert.assertEquals(Collections.singleton(1L),
+                new HashSet<Long>(statistics.getEntryCountByClassLoader().values()));
+
+        statistics.resetStatistics();
+        Assert.assertEquals(0, statistics.getMissCount());
+        Assert.assertEquals(1, statistics.getEntryCount());
+    }
+
+    @Test
+    public void testBoundedStatistics() {
+        BoundedCache<Class<?>, Object> cache = new BoundedCache<Class<?>, Object>(1);
+        BeanPropertiesCacheStatistics statistics = new BeanPropertiesCacheStatistics(cache);
+        cache.computeIfAbsent(Person.class, type -> type);
+        cache.computeIfAbsent(Naming.class, type -> type);
+        Assert.assertEquals(1, statistics.getEntryCount());
+        Assert.assertEquals(1, statistics.getEvictionCount());
+        Assert.assertEquals(1, statistics.getEntryCountByClassLoader().size());
+        statistics.resetStatistics();
+        Assert.assertEquals(0, statistics.getEvictionCount());
+    }
+}
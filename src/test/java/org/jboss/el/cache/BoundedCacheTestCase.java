@@ -0,0 +1,91 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright (c) 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.el.cache;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BoundedCacheTestCase {
+
+    @Test
+    public void testSizeIsBounded() {
+        BoundedCache<Integer, String> cache = new BoundedCache<Integer, String>(100);
+        for (int i = 0; i < 10000; i++) {
+            Assert.assertEquals(String.valueOf(i), cache.computeIfAbsent(i, String::valueOf));
+            Assert.assertTrue(cache.size() <= 100);
+        }
+        Assert.assertEquals(100, cache.size());
+    }
+
+    @Test
+    public void testFrequentEntriesSurviveScan() {
+        BoundedCache<Integer, String> cache = new BoundedCache<Integer, String>(100);
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 50; i++) {
+                cache.computeIfAbsent(i, String::valueOf);
+            }
+        }
+        // a burst of keys that are used once must not flush the popular ones
+        for (int i = 1000; i < 1800; i++) {
+            cache.computeIfAbsent(i, String::valueOf);
+        }
+        for (int i = 0; i < 50; i++) {
+            Assert.assertEquals(String.valueOf(i), cache.get(i));
+        }
+    }
+
+    @Test
+    public void testRemoveIf() {
+        BoundedCache<Integer, String> cache = new BoundedCache<Integer, String>(10);
+        for (int i = 0; i < 10; i++) {
+            cache.computeIfAbsent(i, String::valueOf);
+        }
+        cache.removeIf(i -> i % 2 == 0);
+        Assert.assertEquals(5, cache.size());
+        Assert.assertNull(cache.get(2));
+        Assert.assertEquals("3", cache.get(3));
+        for (int i = 10; i < 20; i++) {
+            cache.computeIfAbsent(i, String::valueOf);
+        }
+        Assert.assertEquals(10, cache.size());
+    }
+
+    @Test
+    public void testRemovePartition() {
+        BoundedCache<Integer, String> cache = new BoundedCache<Integer, String>(10, i -> i % 2 == 0 ? "even" : "odd");
+        for (int i = 0; i < 10; i++) {
+            cache.computeIfAbsent(i, String::valueOf);
+        }
+        cache.removePartition("even");
+        Assert.assertEquals(5, cache.size());
+        Assert.assertNull(cache.get(2));
+        Assert.assertEquals("3", cache.get(3));
+        cache.removePartition("missing");
+        Assert.assertEquals(5, cache.size());
+        // evicted entries leave their partition too
+        for (int i = 11; i < 30; i += 2) {
+            cache.computeIfAbsent(i, String::valueOf);
+        }
+        cache.removePartition("odd");
+        Assert.assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright (c) 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.el.cache;
+
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import javax.management.ObjectName;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FactoryFinderCacheTestCase {
+
+    private static final String FACTORY_ID = "javax.el.ExpressionFactory";
+
+    public interface ProbeMXBean {
+        int getValue();
+    }
+
+    public static class Probe implements ProbeMXBean {
+        @Override
+        public int getValue() {
+            return 1;
+        }
+    }
+
+    @Test
+    public void testEntriesArePerClassLoader() throws Exception {
+        try (URLClassLoader first = new URLClassLoader(new URL[0], null);
+             URLClassLoader second = new URLClassLoader(new URL[0], null)) {
+            FactoryFinderCache.addCacheEntry(first, FACTORY_ID, "org.example.FirstFactory");
+            FactoryFinderCache.addCacheEntry(second, FACTORY_ID, null);
+            Assert.assertEquals("org.example.FirstFactory", FactoryFinderCache.loadImplementationClassName(FACTORY_ID, first));
+            Assert.assertNull(FactoryFinderCache.loadImplementationClassName(FACTORY_ID, second));
+
+            FactoryFinderCache.clearClassLoader(first);
+            // looked up again, and there is no service file in an empty class loader
+            Assert.assertNull(FactoryFinderCache.loadImplementationClassName(FACTORY_ID, first));
+            FactoryFinderCache.addCacheEntry(second, FACTORY_ID, "org.example.SecondFactory");
+            Assert.assertEquals("org.example.SecondFactory", FactoryFinderCache.loadImplementationClassName(FACTORY_ID, second));
+        }
+    }
+
+    @Test
+    public void testClearingTheLibraryClassLoaderUnregistersItsBeans() throws Exception {
+        ObjectName name = new ObjectName("org.jboss.el:type=Probe");
+        ManagementSupport.register(new Probe(), name.toString());
+        Assert.assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+
+        FactoryFinderCache.clearClassLoader(new URLClassLoader(new URL[0], null));
+        Assert.assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+        FactoryFinderCache.clearClassLoader(FactoryFinderCache.class.getClassLoader());
+        Assert.assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+    }
+}